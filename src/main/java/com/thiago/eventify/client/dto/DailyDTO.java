@@ -1,38 +1,317 @@
 package com.thiago.eventify.client.dto;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
-public record DailyDTO(
-        List<LocalDate> time,
+// Columnar forecast: one primitive array per series, missing values stored as NaN / MISSING.
+@JsonSerialize(using = DailyDTO.Serializer.class)
+@JsonDeserialize(using = DailyDTO.Deserializer.class)
+public final class DailyDTO {
 
-        @JsonProperty("temperature_2m_max")
-        List<Double> maxTemperature,
+    private static final int MISSING = Integer.MIN_VALUE;
 
-        @JsonProperty("temperature_2m_min")
-        List<Double> minTemperature,
+    private static final String TIME = "time";
+    private static final String MAX_TEMPERATURE = "temperature_2m_max";
+    private static final String MIN_TEMPERATURE = "temperature_2m_min";
+    private static final String APPARENT_MAX_TEMPERATURE = "apparent_temperature_max";
+    private static final String APPARENT_MIN_TEMPERATURE = "apparent_temperature_min";
+    private static final String MAX_PRECIPITATION_PROBABILITY = "precipitation_probability_max";
+    private static final String MAX_WIND_SPEED = "wind_speed_10m_max";
+    private static final String MAX_WIND_GUSTS = "wind_gusts_10m_max";
+    private static final String DOMINANT_WIND_DIRECTION = "wind_direction_10m_dominant";
+    private static final String PRECIPITATION_HOURS = "precipitation_hours";
 
-        @JsonProperty("apparent_temperature_max")
-        List<Double> apparentMaxTemperature,
+    private final int[] time;
+    private final double[] maxTemperature;
+    private final double[] minTemperature;
+    private final double[] apparentMaxTemperature;
+    private final double[] apparentMinTemperature;
+    private final int[] maxPrecipitationProbability;
+    private final double[] maxWindSpeed;
+    private final double[] maxWindGusts;
+    private final int[] dominantWindDirection;
+    private final int[] precipitationHours;
 
-        @JsonProperty("apparent_temperature_min")
-        List<Double> apparentMinTemperature,
+    private DailyDTO(int[] time, double[] maxTemperature, double[] minTemperature, double[] apparentMaxTemperature,
+                     double[] apparentMinTemperature, int[] maxPrecipitationProbability, double[] maxWindSpeed,
+                     double[] maxWindGusts, int[] dominantWindDirection, int[] precipitationHours){
+        this.time = time;
+        this.maxTemperature = maxTemperature;
+        this.minTemperature = minTemperature;
+        this.apparentMaxTemperature = apparentMaxTemperature;
+        this.apparentMinTemperature = apparentMinTemperature;
+        this.maxPrecipitationProbability = maxPrecipitationProbability;
+        this.maxWindSpeed = maxWindSpeed;
+        this.maxWindGusts = maxWindGusts;
+        this.dominantWindDirection = dominantWindDirection;
+        this.precipitationHours = precipitationHours;
+    }
 
-        @JsonProperty("precipitation_probability_max")
-        List<Integer> maxPrecipitationProbability,
+    public DailyDTO(List<LocalDate> time, List<Double> maxTemperature, List<Double> minTemperature,
+                    List<Double> apparentMaxTemperature, List<Double> apparentMinTemperature,
+                    List<Integer> maxPrecipitationProbability, List<Double> maxWindSpeed, List<Double> maxWindGusts,
+                    List<Integer> dominantWindDirection, List<Integer> precipitationHours){
+        this(toEpochDays(time), toDoubles(maxTemperature), toDoubles(minTemperature),
+                toDoubles(apparentMaxTemperature), toDoubles(apparentMinTemperature),
+                toInts(maxPrecipitationProbability), toDoubles(maxWindSpeed), toDoubles(maxWindGusts),
+                toInts(dominantWindDirection), toInts(precipitationHours));
+    }
 
-        @JsonProperty("wind_speed_10m_max")
-        List<Double> maxWindSpeed,
+    public int days(){
+        return this.time == null ? 0 : this.time.length;
+    }
 
-        @JsonProperty("wind_gusts_10m_max")
-        List<Double> maxWindGusts,
+    public LocalDate date(int day){
+        return valueAt(this.time, day) == null ? null : LocalDate.ofEpochDay(this.time[day]);
+    }
 
-        @JsonProperty("wind_direction_10m_dominant")
-        List<Integer> dominantWindDirection,
+    public Double maxTemperature(int day){
+        return valueAt(this.maxTemperature, day);
+    }
 
-        @JsonProperty("precipitation_hours")
-        List<Integer> precipitationHours
-) {
+    public Double minTemperature(int day){
+        return valueAt(this.minTemperature, day);
+    }
+
+    public Double apparentMaxTemperature(int day){
+        return valueAt(this.apparentMaxTemperature, day);
+    }
+
+    public Double apparentMinTemperature(int day){
+        return valueAt(this.apparentMinTemperature, day);
+    }
+
+    public Integer maxPrecipitationProbability(int day){
+        return valueAt(this.maxPrecipitationProbability, day);
+    }
+
+    public Double maxWindSpeed(int day){
+        return valueAt(this.maxWindSpeed, day);
+    }
+
+    public Double maxWindGusts(int day){
+        return valueAt(this.maxWindGusts, day);
+    }
+
+    public Integer dominantWindDirection(int day){
+        return valueAt(this.dominantWindDirection, day);
+    }
+
+    public Integer precipitationHours(int day){
+        return valueAt(this.precipitationHours, day);
+    }
+
+    @Override
+    public boolean equals(Object other){
+        if (this == other) return true;
+        if (!(other instanceof DailyDTO that)) return false;
+        return Arrays.equals(this.time, that.time)
+                && Arrays.equals(this.maxTemperature, that.maxTemperature)
+                && Arrays.equals(this.minTemperature, that.minTemperature)
+                && Arrays.equals(this.apparentMaxTemperature, that.apparentMaxTemperature)
+                && Arrays.equals(this.apparentMinTemperature, that.apparentMinTemperature)
+                && Arrays.equals(this.maxPrecipitationProbability, that.maxPrecipitationProbability)
+                && Arrays.equals(this.maxWindSpeed, that.maxWindSpeed)
+                && Arrays.equals(this.maxWindGusts, that.maxWindGusts)
+                && Arrays.equals(this.dominantWindDirection, that.dominantWindDirection)
+                && Arrays.equals(this.precipitationHours, that.precipitationHours);
+    }
+
+    @Override
+    public int hashCode(){
+        return Objects.hash(Arrays.hashCode(this.time), Arrays.hashCode(this.maxTemperature),
+                Arrays.hashCode(this.minTemperature), Arrays.hashCode(this.apparentMaxTemperature),
+                Arrays.hashCode(this.apparentMinTemperature), Arrays.hashCode(this.maxPrecipitationProbability),
+                Arrays.hashCode(this.maxWindSpeed), Arrays.hashCode(this.maxWindGusts),
+                Arrays.hashCode(this.dominantWindDirection), Arrays.hashCode(this.precipitationHours));
+    }
+
+    @Override
+    public String toString(){
+        return "DailyDTO[days=" + this.days() + "]";
+    }
+
+    private static Double valueAt(double[] values, int day){
+        return values == null || day >= values.length || Double.isNaN(values[day]) ? null : values[day];
+    }
+
+    private static Integer valueAt(int[] values, int day){
+        return values == null || day >= values.length || values[day] == MISSING ? null : values[day];
+    }
+
+    private static int[] toEpochDays(List<LocalDate> values){
+        return values == null ? null : values.stream()
+                .mapToInt(date -> date == null ? MISSING : (int) date.toEpochDay()).toArray();
+    }
+
+    private static double[] toDoubles(List<Double> values){
+        return values == null ? null : values.stream()
+                .mapToDouble(value -> value == null ? Double.NaN : value).toArray();
+    }
+
+    private static int[] toInts(List<Integer> values){
+        return values == null ? null : values.stream().mapToInt(value -> value == null ? MISSING : value).toArray();
+    }
+
+    public static class Serializer extends StdSerializer<DailyDTO> {
+
+        public Serializer(){
+            super(DailyDTO.class);
+        }
+
+        @Override
+        public void serialize(DailyDTO daily, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            writeDates(gen, TIME, daily.time);
+            writeDoubles(gen, MAX_TEMPERATURE, daily.maxTemperature);
+            writeDoubles(gen, MIN_TEMPERATURE, daily.minTemperature);
+            writeDoubles(gen, APPARENT_MAX_TEMPERATURE, daily.apparentMaxTemperature);
+            writeDoubles(gen, APPARENT_MIN_TEMPERATURE, daily.apparentMinTemperature);
+            writeInts(gen, MAX_PRECIPITATION_PROBABILITY, daily.maxPrecipitationProbability);
+            writeDoubles(gen, MAX_WIND_SPEED, daily.maxWindSpeed);
+            writeDoubles(gen, MAX_WIND_GUSTS, daily.maxWindGusts);
+            writeInts(gen, DOMINANT_WIND_DIRECTION, daily.dominantWindDirection);
+            writeInts(gen, PRECIPITATION_HOURS, daily.precipitationHours);
+            gen.writeEndObject();
+        }
+
+        private static void writeDates(JsonGenerator gen, String field, int[] values) throws IOException {
+            if (values == null) {
+                gen.writeNullField(field);
+                return;
+            }
+            gen.writeArrayFieldStart(field);
+            for (int value : values) {
+                if (value == MISSING) gen.writeNull();
+                else gen.writeString(LocalDate.ofEpochDay(value).toString());
+            }
+            gen.writeEndArray();
+        }
+
+        private static void writeDoubles(JsonGenerator gen, String field, double[] values) throws IOException {
+            if (values == null) {
+                gen.writeNullField(field);
+                return;
+            }
+            gen.writeArrayFieldStart(field);
+            for (double value : values) {
+                if (Double.isNaN(value)) gen.writeNull();
+                else gen.writeNumber(value);
+            }
+            gen.writeEndArray();
+        }
+
+        private static void writeInts(JsonGenerator gen, String field, int[] values) throws IOException {
+            if (values == null) {
+                gen.writeNullField(field);
+                return;
+            }
+            gen.writeArrayFieldStart(field);
+            for (int value : values) {
+                if (value == MISSING) gen.writeNull();
+                else gen.writeNumber(value);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    public static class Deserializer extends StdDeserializer<DailyDTO> {
+
+        public Deserializer(){
+            super(DailyDTO.class);
+        }
+
+        @Override
+        public DailyDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.isExpectedStartObjectToken()) {
+                return (DailyDTO) context.handleUnexpectedToken(DailyDTO.class, parser);
+            }
+            int[] time = null;
+            double[] maxTemperature = null;
+            double[] minTemperature = null;
+            double[] apparentMaxTemperature = null;
+            double[] apparentMinTemperature = null;
+            int[] maxPrecipitationProbability = null;
+            double[] maxWindSpeed = null;
+            double[] maxWindGusts = null;
+            int[] dominantWindDirection = null;
+            int[] precipitationHours = null;
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case TIME -> time = readDates(parser, context);
+                    case MAX_TEMPERATURE -> maxTemperature = readDoubles(parser, context);
+                    case MIN_TEMPERATURE -> minTemperature = readDoubles(parser, context);
+                    case APPARENT_MAX_TEMPERATURE -> apparentMaxTemperature = readDoubles(parser, context);
+                    case APPARENT_MIN_TEMPERATURE -> apparentMinTemperature = readDoubles(parser, context);
+                    case MAX_PRECIPITATION_PROBABILITY -> maxPrecipitationProbability = readInts(parser, context);
+                    case MAX_WIND_SPEED -> maxWindSpeed = readDoubles(parser, context);
+                    case MAX_WIND_GUSTS -> maxWindGusts = readDoubles(parser, context);
+                    case DOMINANT_WIND_DIRECTION -> dominantWindDirection = readInts(parser, context);
+                    case PRECIPITATION_HOURS -> precipitationHours = readInts(parser, context);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new DailyDTO(time, maxTemperature, minTemperature, apparentMaxTemperature, apparentMinTemperature,
+                    maxPrecipitationProbability, maxWindSpeed, maxWindGusts, dominantWindDirection,
+                    precipitationHours);
+        }
+
+        private static int[] readDates(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            expectArray(parser, context);
+            int[] values = new int[16];
+            int size = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (size == values.length) values = Arrays.copyOf(values, size * 2);
+                values[size++] = parser.currentToken() == JsonToken.VALUE_NULL
+                        ? MISSING : (int) LocalDate.parse(parser.getText()).toEpochDay();
+            }
+            return Arrays.copyOf(values, size);
+        }
+
+        private static double[] readDoubles(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            expectArray(parser, context);
+            double[] values = new double[16];
+            int size = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (size == values.length) values = Arrays.copyOf(values, size * 2);
+                values[size++] = parser.currentToken() == JsonToken.VALUE_NULL
+                        ? Double.NaN : parser.getValueAsDouble();
+            }
+            return Arrays.copyOf(values, size);
+        }
+
+        private static int[] readInts(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+            expectArray(parser, context);
+            int[] values = new int[16];
+            int size = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (size == values.length) values = Arrays.copyOf(values, size * 2);
+                values[size++] = parser.currentToken() == JsonToken.VALUE_NULL ? MISSING : parser.getValueAsInt();
+            }
+            return Arrays.copyOf(values, size);
+        }
+
+        private static void expectArray(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                context.handleUnexpectedToken(List.class, parser);
+            }
+        }
+    }
 }
@@ -1,4 +1,8 @@
 package com.thiago.eventify.client.dto;
 
-public record WeatherForecastApiResponseDTO(DailyDTO daily) {
+public record WeatherForecastApiResponseDTO(Double latitude, Double longitude, DailyDTO daily) {
+
+    public WeatherForecastApiResponseDTO(DailyDTO daily){
+        this(null, null, daily);
+    }
 }
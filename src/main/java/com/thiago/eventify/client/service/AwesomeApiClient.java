@@ -7,7 +7,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 
 @FeignClient(
         name = "AwesomeApiClient",
-        url = "https://cep.awesomeapi.com.br"
+        url = "${eventify.client.awesome-api.url:https://cep.awesomeapi.com.br}"
 )
 public interface AwesomeApiClient {
 
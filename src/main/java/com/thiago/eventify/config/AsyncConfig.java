@@ -0,0 +1,36 @@
+package com.thiago.eventify.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Bean(name = "requestExecutor")
+    public ThreadPoolTaskExecutor requestExecutor(@Value("${eventify.executor.request.core-size:16}") int coreSize,
+                                                  @Value("${eventify.executor.request.max-size:64}") int maxSize,
+                                                  @Value("${eventify.executor.request.queue-capacity:500}") int queueCapacity){
+        return buildExecutor("request-", coreSize, maxSize, queueCapacity);
+    }
+
+    @Bean(name = "upstreamExecutor")
+    public ThreadPoolTaskExecutor upstreamExecutor(@Value("${eventify.executor.upstream.core-size:32}") int coreSize,
+                                                   @Value("${eventify.executor.upstream.max-size:128}") int maxSize,
+                                                   @Value("${eventify.executor.upstream.queue-capacity:1000}") int queueCapacity){
+        return buildExecutor("upstream-", coreSize, maxSize, queueCapacity);
+    }
+
+    private static ThreadPoolTaskExecutor buildExecutor(String threadNamePrefix, int coreSize, int maxSize,
+                                                        int queueCapacity){
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.thiago.eventify.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "eventify.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT10M") Duration idleTimeout,
+        @DefaultValue("100000") long maximumBuckets,
+        @DefaultValue List<Route> routes
+) {
+
+    public record Route(
+            @DefaultValue List<String> methods,
+            String pattern,
+            String userParameter,
+            @DefaultValue("60") long ipCapacity,
+            @DefaultValue("20") long userCapacity,
+            @DefaultValue("PT1M") Duration period
+    ) {
+    }
+}
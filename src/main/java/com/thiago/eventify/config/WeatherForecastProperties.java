@@ -0,0 +1,19 @@
+package com.thiago.eventify.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "eventify.weather")
+public record WeatherForecastProperties(
+        @DefaultValue("0.05") double gridSize,
+        @DefaultValue("PT1H") Duration refreshInterval,
+        @DefaultValue("PT10M") Duration gracePeriod,
+        @DefaultValue("PT24H") Duration maxStale,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("4") int batchParallelism,
+        @DefaultValue("0.25") double coordinateTolerance
+) {
+}
@@ -1,24 +1,46 @@
 package com.thiago.eventify.controller;
 
-import com.thiago.eventify.client.dto.WeatherForecastApiResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.thiago.eventify.dto.*;
 import com.thiago.eventify.entity.Event;
-import com.thiago.eventify.entity.User;
 import com.thiago.eventify.mapper.EventMapper;
-import com.thiago.eventify.mapper.UserMapper;
+import com.thiago.eventify.service.EventImportService;
 import com.thiago.eventify.service.EventService;
+import com.thiago.eventify.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Tag(name = "Evento", description = "API para gerenciamento de eventos e seus participantes.")
 @RestController
@@ -26,67 +48,195 @@ import java.util.UUID;
 public class EventController {
 
     private final EventService eventService;
+    private final EventImportService eventImportService;
     private final EventMapper eventMapper;
-    private final UserMapper userMapper;
+    private final Executor requestExecutor;
+    private final ObjectMapper objectMapper;
+    private final CacheControl cacheControl;
 
-    public EventController(EventService eventService, EventMapper eventMapper, UserMapper userMapper){
+    public EventController(EventService eventService, EventImportService eventImportService, EventMapper eventMapper,
+                           @Qualifier("requestExecutor") Executor requestExecutor, ObjectMapper objectMapper,
+                           @Value("${eventify.http-cache.max-age:PT0S}") Duration maxAge){
         this.eventService = eventService;
+        this.eventImportService = eventImportService;
         this.eventMapper = eventMapper;
-        this.userMapper = userMapper;
+        this.requestExecutor = requestExecutor;
+        this.objectMapper = objectMapper;
+        this.cacheControl = maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge).mustRevalidate();
     }
 
     @Operation(
-            summary = "Buscar todos os eventos",
-            description = "Retorna uma lista de todos os eventos cadastrados."
+            summary = "Buscar eventos",
+            description = "Retorna uma página de eventos ordenados por data, com filtros opcionais de cidade, " +
+                    "estado e período. Use o nextCursor da resposta para buscar a próxima página."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Eventos retornados com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de paginação ou filtro inválidos"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
     @GetMapping("/all")
-    public ResponseEntity<List<EventDTO>> findAll(){
-        List<Event> events = this.eventService.findAll();
-        List<EventDTO> eventsDTO = this.eventMapper.toDTOList(events);
-        return ResponseEntity.ok(eventsDTO);
+    public ResponseEntity<CursorPageDTO<EventDTO>> findAll(
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "city", required = false) String city,
+            @RequestParam(value = "state", required = false) String state,
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        CursorPageDTO<EventDTO> page = this.eventService.findPage(new EventFilterDTO(city, state, from, to), cursor,
+                limit);
+        List<Object> parts = new ArrayList<>(page.content());
+        parts.add(page.nextCursor());
+        return this.conditional(ifNoneMatch, ETags.strong(parts), () -> page);
+    }
+
+    @Operation(
+            summary = "Buscar eventos com previsão do tempo",
+            description = "Retorna uma página de eventos com a previsão do tempo de 14 dias de cada um, aceitando " +
+                    "os mesmos filtros e cursor da listagem simples."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Eventos retornados com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de paginação ou filtro inválidos"),
+            @ApiResponse(responseCode = "502", description = "Erro ao buscar dados externos"),
+            @ApiResponse(responseCode = "504", description = "Tempo limite excedido ao buscar dados externos"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    @GetMapping(value = "/all", params = "withWeather=true")
+    public CompletableFuture<ResponseEntity<CursorPageDTO<EventWithWeatherForecastDTO>>> findAllWithWeather(
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "city", required = false) String city,
+            @RequestParam(value = "state", required = false) String state,
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        return CompletableFuture.supplyAsync(() -> {
+            CursorPageDTO<Event> page = this.eventService.findEventPage(new EventFilterDTO(city, state, from, to),
+                    cursor, limit);
+            List<WeatherForecastSnapshotDTO> cachedForecasts = new ArrayList<>(page.content().size());
+            for (Event event : page.content()) {
+                Optional<WeatherForecastSnapshotDTO> cached = this.eventService.findCachedEventWeatherInfo(event);
+                if (cached.isEmpty()) break;
+                cachedForecasts.add(cached.get());
+            }
+            if (cachedForecasts.size() == page.content().size()) {
+                String etag = pageTag(page, cachedForecasts);
+                if (ETags.matches(ifNoneMatch, etag)) return this.notModified(etag);
+            }
+            List<WeatherForecastSnapshotDTO> weatherForecasts = this.eventService.getEventsWeatherInfo(page.content());
+            return this.conditional(ifNoneMatch, pageTag(page, weatherForecasts),
+                    () -> page.map(events -> this.eventMapper.toDTOList(events, weatherForecasts)));
+        }, this.requestExecutor);
+    }
+
+    @Operation(
+            summary = "Exportar eventos",
+            description = "Transmite os eventos em NDJSON (um JSON por linha), ordenados por data, com filtros " +
+                    "opcionais de cidade, estado e período. Os registros são lidos de um cursor do banco e escritos " +
+                    "direto na resposta, sem carregar a tabela em memória."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Eventos transmitidos com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de filtro inválidos"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(@RequestParam(value = "city", required = false) String city,
+                       @RequestParam(value = "state", required = false) String state,
+                       @RequestParam(value = "from", required = false)
+                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                       @RequestParam(value = "to", required = false)
+                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                       HttpServletResponse response) throws IOException {
+        EventFilterDTO filter = new EventFilterDTO(city, state, from, to);
+        this.writeNdjson(response, consumer -> this.eventService.exportEvents(filter, consumer));
     }
 
     @Operation(
             summary = "Buscar evento por ID",
-            description = "Retorna um evento pelo ID, incluindo previsão do tempo."
+            description = "Retorna um evento pelo ID, incluindo previsão do tempo. A resposta traz um ETag; " +
+                    "envie-o em If-None-Match para receber 304 enquanto o evento e a previsão não mudarem."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Evento encontrado com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Evento inalterado desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Evento não encontrado"),
             @ApiResponse(responseCode = "502", description = "Erro ao buscar dados externos"),
+            @ApiResponse(responseCode = "504", description = "Tempo limite excedido ao buscar dados externos"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<EventWithWeatherForecastDTO> findById(@PathVariable("id") UUID id){
-        Event event = this.eventService.findById(id);
-        WeatherForecastApiResponseDTO weatherForecast = this.eventService.getEventWeatherInfo(event);
-        EventWithWeatherForecastDTO eventDTO = this.eventMapper.toDTO(event, weatherForecast);
-        return ResponseEntity.ok(eventDTO);
+    public CompletableFuture<ResponseEntity<EventWithWeatherForecastDTO>> findById(
+            @PathVariable("id") UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        return CompletableFuture.supplyAsync(() -> this.eventService.findById(id), this.requestExecutor)
+                .thenCompose(event -> {
+                    Optional<String> cachedTag = this.eventService.findCachedEventWeatherInfo(event)
+                            .map(weatherForecast -> eventTag(event, weatherForecast));
+                    if (cachedTag.isPresent() && ETags.matches(ifNoneMatch, cachedTag.get())) {
+                        return CompletableFuture.completedFuture(this.notModified(cachedTag.get()));
+                    }
+                    return this.eventService.getEventWeatherInfoAsync(event).thenApply(weatherForecast ->
+                            this.conditional(ifNoneMatch, eventTag(event, weatherForecast),
+                                    () -> this.eventMapper.toDTO(event, weatherForecast)));
+                });
     }
 
     @Operation(
             summary = "Criar novo evento",
-            description = "Cria um novo evento e retorna os dados do evento com previsão do tempo."
+            description = "Cria um novo evento e retorna os dados do evento com previsão do tempo. O dono é " +
+                    "informado por ownerId na query; se o corpo também trouxer ownerId, ele deve ser o mesmo."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Evento criado com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Erro de validação ou PIN inválido"),
+            @ApiResponse(responseCode = "400", description = "Erro de validação, dono divergente ou PIN inválido"),
             @ApiResponse(responseCode = "404", description = "Usuário dono do evento não encontrado"),
             @ApiResponse(responseCode = "502", description = "Erro ao buscar dados externos"),
+            @ApiResponse(responseCode = "504", description = "Tempo limite excedido ao buscar dados externos"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
     @PostMapping
-    public ResponseEntity<EventWithWeatherForecastDTO> create(@RequestBody @Valid CreateEventDTO data,
-                                                              @RequestParam("ownerPin") String pin){
-        Event event = this.eventService.create(data, pin);
-        WeatherForecastApiResponseDTO weatherForecast = this.eventService.getEventWeatherInfo(event);
-        EventWithWeatherForecastDTO eventDTO = this.eventMapper.toDTO(event, weatherForecast);
-        URI location = URI.create("/event/" + event.getId());
-        return ResponseEntity.created(location).body(eventDTO);
+    public CompletableFuture<ResponseEntity<EventWithWeatherForecastDTO>> create(
+            @RequestBody @Valid CreateEventDTO data, @RequestParam("ownerId") UUID ownerId,
+            @RequestParam("ownerPin") String ownerPin){
+        return CompletableFuture.supplyAsync(() -> this.eventService.create(ownerId, ownerPin, data),
+                        this.requestExecutor)
+                .thenCompose(this::withWeatherForecast)
+                .thenApply(eventDTO -> {
+                    URI location = URI.create("/event/" + eventDTO.event().id());
+                    return ResponseEntity.created(location).body(eventDTO);
+                });
+    }
+
+    @Operation(
+            summary = "Importar eventos em lote",
+            description = "Importa eventos a partir de um arquivo CSV (text/csv, com cabeçalho title, description, " +
+                    "dateTime, cep, addressNumber, capacity) ou NDJSON (application/x-ndjson, um CreateEventDTO por " +
+                    "linha). O arquivo é processado em fluxo e o relatório informa os erros de cada linha."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação processada"),
+            @ApiResponse(responseCode = "400", description = "PIN ou cabeçalho do CSV inválido"),
+            @ApiResponse(responseCode = "404", description = "Dono não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<EventImportReportDTO> importEvents(@RequestParam("ownerId") UUID ownerId,
+                                                             @RequestParam("ownerPin") String ownerPin,
+                                                             @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType type,
+                                                             HttpServletRequest request) throws IOException {
+        EventImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(type)
+                ? EventImportFormat.NDJSON : EventImportFormat.CSV;
+        return ResponseEntity.ok(this.eventImportService.importEvents(ownerId, ownerPin, format,
+                request.getInputStream()));
     }
 
     @Operation(
@@ -99,17 +249,17 @@ public class EventController {
             @ApiResponse(responseCode = "403", description = "Acesso negado ou atualização proibida"),
             @ApiResponse(responseCode = "404", description = "Evento ou usuário não encontrado"),
             @ApiResponse(responseCode = "502", description = "Erro ao buscar dados externos"),
+            @ApiResponse(responseCode = "504", description = "Tempo limite excedido ao buscar dados externos"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
     @PutMapping("/{id}")
-    public ResponseEntity<EventWithWeatherForecastDTO> update(@PathVariable("id") UUID id,
-                                                              @RequestBody @Valid UpdateEventDTO data,
-                                                              @RequestParam("ownerId") UUID ownerId,
-                                                              @RequestParam("ownerPin") String ownerPin){
-        Event event = this.eventService.update(id, ownerId, ownerPin, data);
-        WeatherForecastApiResponseDTO weatherForecast = this.eventService.getEventWeatherInfo(event);
-        EventWithWeatherForecastDTO eventDTO = this.eventMapper.toDTO(event, weatherForecast);
-        return ResponseEntity.ok(eventDTO);
+    public CompletableFuture<ResponseEntity<EventWithWeatherForecastDTO>> update(
+            @PathVariable("id") UUID id, @RequestBody @Valid UpdateEventDTO data,
+            @RequestParam("ownerId") UUID ownerId, @RequestParam("ownerPin") String ownerPin){
+        return CompletableFuture.supplyAsync(() -> this.eventService.update(id, ownerId, ownerPin, data),
+                        this.requestExecutor)
+                .thenCompose(this::withWeatherForecast)
+                .thenApply(ResponseEntity::ok);
     }
 
     @Operation(
@@ -132,10 +282,12 @@ public class EventController {
 
     @Operation(
             summary = "Registrar participante no evento",
-            description = "Registra um usuário como participante em um evento."
+            description = "Registra um usuário como participante em um evento. Se o evento estiver lotado, o " +
+                    "usuário entra na lista de espera e é inscrito automaticamente quando uma vaga for liberada."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Participante registrado com sucesso"),
+            @ApiResponse(responseCode = "202", description = "Evento lotado: usuário incluído na lista de espera"),
             @ApiResponse(responseCode = "400", description = "PIN inválido"),
             @ApiResponse(responseCode = "403", description = "Registro proibido"),
             @ApiResponse(responseCode = "404", description = "Evento ou usuário não encontrado"),
@@ -144,13 +296,15 @@ public class EventController {
     @PutMapping("/{id}/participant/{userId}")
     public ResponseEntity<Void> registerParticipant(@PathVariable UUID id, @PathVariable UUID userId,
                                                     @RequestParam("userPin") String userPin){
-        this.eventService.registerParticipant(id, userId, userPin);
+        RegistrationStatus status = this.eventService.registerParticipant(id, userId, userPin);
+        if (status == RegistrationStatus.WAITLISTED) return ResponseEntity.accepted().build();
         return ResponseEntity.noContent().build();
     }
 
     @Operation(
             summary = "Cancelar inscrição do participante",
-            description = "Remove um usuário participante de um evento."
+            description = "Remove um usuário participante de um evento, ou da lista de espera, e promove o " +
+                    "próximo da lista de espera para a vaga liberada."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Participante removido com sucesso"),
@@ -166,19 +320,127 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(
+            summary = "Registrar participantes em lote",
+            description = "Registra vários usuários em um evento de uma só vez. Apenas o dono do evento pode " +
+                    "usar este recurso. Usuários além da capacidade entram na lista de espera, e o resultado " +
+                    "informa a situação de cada usuário."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Lista de usuários ou PIN inválido"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado ou registro proibido"),
+            @ApiResponse(responseCode = "404", description = "Evento ou dono não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    @PostMapping("/{id}/participants")
+    public ResponseEntity<List<BulkParticipantResultDTO>> registerParticipants(
+            @PathVariable("id") UUID id, @RequestParam("ownerId") UUID ownerId,
+            @RequestParam("ownerPin") String ownerPin, @Valid @RequestBody BulkParticipantsDTO data){
+        return ResponseEntity.ok(this.eventService.registerParticipants(id, ownerId, ownerPin, data.userIds()));
+    }
+
+    @Operation(
+            summary = "Remover participantes em lote",
+            description = "Remove vários usuários de um evento, ou da lista de espera, de uma só vez. Apenas o " +
+                    "dono do evento pode usar este recurso. As vagas liberadas são preenchidas pela lista de espera."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Lista de usuários ou PIN inválido"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado ou cancelamento proibido"),
+            @ApiResponse(responseCode = "404", description = "Evento ou dono não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    @DeleteMapping("/{id}/participants")
+    public ResponseEntity<List<BulkParticipantResultDTO>> unregisterParticipants(
+            @PathVariable("id") UUID id, @RequestParam("ownerId") UUID ownerId,
+            @RequestParam("ownerPin") String ownerPin, @Valid @RequestBody BulkParticipantsDTO data){
+        return ResponseEntity.ok(this.eventService.unregisterParticipants(id, ownerId, ownerPin, data.userIds()));
+    }
+
     @Operation(
             summary = "Buscar participantes de um evento",
-            description = "Retorna todos os usuários participantes de um evento."
+            description = "Retorna uma página de participantes de um evento, ordenados por nome (NAME) ou por " +
+                    "data de inscrição (REGISTERED_AT). Use o nextCursor da resposta para buscar a próxima página."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Participantes retornados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de paginação inválidos"),
             @ApiResponse(responseCode = "404", description = "Evento não encontrado"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
     @GetMapping("/{id}/participants")
-    public ResponseEntity<List<UserDTO>> findParticipantsByEvent(@PathVariable("id") UUID id){
-        Set<User> participants = this.eventService.findAllParticipants(id);
-        List<UserDTO> participantsDTO = this.userMapper.toDTOList(participants.stream().toList());
-        return ResponseEntity.ok(participantsDTO);
+    public ResponseEntity<CursorPageDTO<ParticipantDTO>> findParticipantsByEvent(
+            @PathVariable("id") UUID id,
+            @RequestParam(value = "sort", defaultValue = "NAME") ParticipantSort sort,
+            @RequestParam(value = "limit", defaultValue = "50") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor){
+        return ResponseEntity.ok(this.eventService.findParticipantPage(id, sort, cursor, limit));
+    }
+
+    @Operation(
+            summary = "Exportar participantes de um evento",
+            description = "Transmite todos os participantes de um evento em NDJSON (um JSON por linha), lendo " +
+                    "direto de um cursor do banco, sem carregar a lista inteira em memória."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Participantes transmitidos com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Evento não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    @GetMapping(value = "/{id}/participants", params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamParticipantsByEvent(@PathVariable("id") UUID id,
+                                          @RequestParam(value = "sort", defaultValue = "NAME") ParticipantSort sort,
+                                          HttpServletResponse response) throws IOException {
+        this.eventService.ensureEventExists(id);
+        this.writeNdjson(response, consumer -> this.eventService.streamParticipants(id, sort, consumer));
+    }
+
+    private void writeNdjson(HttpServletResponse response, Consumer<Consumer<Object>> producer) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream output = new BufferedOutputStream(response.getOutputStream());
+        producer.accept(row -> {
+            try {
+                output.write(this.objectMapper.writeValueAsBytes(row));
+                output.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        output.flush();
+    }
+
+    private <T> ResponseEntity<T> conditional(String ifNoneMatch, String etag, Supplier<T> body){
+        if (ETags.matches(ifNoneMatch, etag)) return this.notModified(etag);
+        return ResponseEntity.ok().eTag(etag).cacheControl(this.cacheControl).body(body.get());
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag){
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(this.cacheControl).build();
+    }
+
+    private static String eventTag(Event event, WeatherForecastSnapshotDTO weatherForecast){
+        return ETags.strong(eventTagParts(event, weatherForecast));
+    }
+
+    private static String pageTag(CursorPageDTO<Event> page, List<WeatherForecastSnapshotDTO> weatherForecasts){
+        List<Object> parts = new ArrayList<>();
+        for (int i = 0; i < page.content().size(); i++) {
+            parts.addAll(eventTagParts(page.content().get(i), weatherForecasts.get(i)));
+        }
+        parts.add(page.nextCursor());
+        return ETags.strong(parts);
+    }
+
+    private static List<Object> eventTagParts(Event event, WeatherForecastSnapshotDTO weatherForecast){
+        return Arrays.asList(event.getId(), event.getVersion(), event.getParticipantsCount(),
+                weatherForecast.fetchedAt(), weatherForecast.stale());
+    }
+
+    private CompletableFuture<EventWithWeatherForecastDTO> withWeatherForecast(Event event){
+        return this.eventService.getEventWeatherInfoAsync(event)
+                .thenApply(weatherForecast -> this.eventMapper.toDTO(event, weatherForecast));
     }
 }
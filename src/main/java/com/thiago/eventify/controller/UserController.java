@@ -4,9 +4,7 @@ import com.thiago.eventify.dto.CreateUserDTO;
 import com.thiago.eventify.dto.EventDTO;
 import com.thiago.eventify.dto.UpdateUserDTO;
 import com.thiago.eventify.dto.UserDTO;
-import com.thiago.eventify.entity.Event;
 import com.thiago.eventify.entity.User;
-import com.thiago.eventify.mapper.EventMapper;
 import com.thiago.eventify.mapper.UserMapper;
 import com.thiago.eventify.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,7 +17,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 @Tag(name = "Usuário", description = "API para gerenciamento de usuários e suas ações relacionadas.")
@@ -29,12 +26,10 @@ public class UserController {
 
     private final UserService userService;
     private final UserMapper userMapper;
-    private final EventMapper eventMapper;
 
-    public UserController(UserService userService, UserMapper userMapper, EventMapper eventMapper){
+    public UserController(UserService userService, UserMapper userMapper){
         this.userService = userService;
         this.userMapper = userMapper;
-        this.eventMapper = eventMapper;
     }
 
     @Operation(
@@ -119,8 +114,7 @@ public class UserController {
     })
     @GetMapping("/{id}/events")
     public ResponseEntity<List<EventDTO>> findAllEventsByUser(@PathVariable("id") UUID id, @RequestParam("pin") String pin){
-        Set<Event> events = this.userService.findAllEvents(id, pin);
-        List<EventDTO> eventsDTO = this.eventMapper.toDTOList(events.stream().toList());
+        List<EventDTO> eventsDTO = this.userService.findAllEvents(id, pin);
         return ResponseEntity.ok(eventsDTO);
     }
 }
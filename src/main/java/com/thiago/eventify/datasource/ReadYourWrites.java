@@ -0,0 +1,67 @@
+package com.thiago.eventify.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+    private static final Scope NO_OP = () -> { };
+
+    private final Cache<UUID, Boolean> recentWrites;
+
+    public ReadYourWrites(@Value("${eventify.datasource.replica.read-your-writes-window:PT0S}") Duration window){
+        this.recentWrites = window.isZero() || window.isNegative() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void recordWrite(UUID... ids){
+        this.recordWrites(List.of(ids));
+    }
+
+    public void recordWrites(Collection<UUID> ids){
+        if (this.recentWrites == null || ids.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(id -> this.recentWrites.put(id, Boolean.TRUE));
+            return;
+        }
+        List<UUID> written = List.copyOf(ids);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit(){
+                written.forEach(id -> ReadYourWrites.this.recentWrites.put(id, Boolean.TRUE));
+            }
+        });
+    }
+
+    public Scope pinIfRecentlyWritten(UUID id){
+        if (this.recentWrites == null || id == null || this.recentWrites.getIfPresent(id) == null) return NO_OP;
+        Boolean previous = PINNED_TO_PRIMARY.get();
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) PINNED_TO_PRIMARY.remove();
+            else PINNED_TO_PRIMARY.set(previous);
+        };
+    }
+
+    static boolean isPinnedToPrimary(){
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,6 @@
+package com.thiago.eventify.dto;
+
+import java.util.UUID;
+
+public record BulkParticipantResultDTO(UUID userId, BulkParticipantStatus status) {
+}
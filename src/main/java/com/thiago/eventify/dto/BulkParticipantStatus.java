@@ -0,0 +1,11 @@
+package com.thiago.eventify.dto;
+
+public enum BulkParticipantStatus {
+    REGISTERED,
+    WAITLISTED,
+    ALREADY_REGISTERED,
+    ALREADY_WAITLISTED,
+    REMOVED,
+    NOT_REGISTERED,
+    USER_NOT_FOUND
+}
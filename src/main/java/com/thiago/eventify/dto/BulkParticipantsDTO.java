@@ -0,0 +1,15 @@
+package com.thiago.eventify.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkParticipantsDTO(
+        @NotEmpty(message = "A lista de usuários não pode ser vazia.")
+        @Size(max = 20000, message = "A lista de usuários deve conter no máximo 20000 IDs.")
+        List<@NotNull(message = "O ID do usuário não pode ser nulo.") UUID> userIds
+) {
+}
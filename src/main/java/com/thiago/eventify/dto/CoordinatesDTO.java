@@ -0,0 +1,4 @@
+package com.thiago.eventify.dto;
+
+public record CoordinatesDTO(Double latitude, Double longitude) {
+}
@@ -7,7 +7,6 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 public record CreateEventDTO(
-        @NotNull(message = "O ID do dono do evento deve ser informado.")
         UUID ownerId,
 
         @NotBlank(message = "O título do evento não pode ser vazio.")
@@ -29,6 +28,9 @@ public record CreateEventDTO(
         )
         String cep,
 
-        String addressNumber
+        String addressNumber,
+
+        @Positive(message = "A capacidade do evento deve ser maior que zero.")
+        Integer capacity
 ) {
 }
@@ -0,0 +1,11 @@
+package com.thiago.eventify.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPageDTO<T>(List<T> content, String nextCursor) {
+
+    public <R> CursorPageDTO<R> map(Function<List<T>, List<R>> mapper){
+        return new CursorPageDTO<>(mapper.apply(this.content), this.nextCursor);
+    }
+}
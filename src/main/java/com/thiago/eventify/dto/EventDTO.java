@@ -4,5 +4,6 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 public record EventDTO(UUID id, String title, String description, LocalDateTime dateTime, String cep,
-                       String address, String addressNumber, String city, String state, String district) {
+                       String address, String addressNumber, String city, String state, String district,
+                       Integer capacity, Integer participantsCount) {
 }
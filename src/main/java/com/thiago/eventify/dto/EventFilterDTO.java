@@ -0,0 +1,6 @@
+package com.thiago.eventify.dto;
+
+import java.time.LocalDateTime;
+
+public record EventFilterDTO(String city, String state, LocalDateTime from, LocalDateTime to) {
+}
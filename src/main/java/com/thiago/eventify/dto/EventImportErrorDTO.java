@@ -0,0 +1,4 @@
+package com.thiago.eventify.dto;
+
+public record EventImportErrorDTO(long line, String message) {
+}
@@ -0,0 +1,6 @@
+package com.thiago.eventify.dto;
+
+import java.util.List;
+
+public record EventImportReportDTO(long totalRows, long imported, long failed, List<EventImportErrorDTO> errors) {
+}
@@ -2,5 +2,5 @@ package com.thiago.eventify.dto;
 
 import com.thiago.eventify.client.dto.DailyDTO;
 
-public record EventWithWeatherForecastDTO(EventDTO event, DailyDTO weatherForecast) {
+public record EventWithWeatherForecastDTO(EventDTO event, DailyDTO weatherForecast, boolean weatherForecastStale) {
 }
@@ -0,0 +1,7 @@
+package com.thiago.eventify.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ParticipantDTO(UUID id, String name, String email, LocalDateTime registeredAt) {
+}
@@ -0,0 +1,6 @@
+package com.thiago.eventify.dto;
+
+public enum ParticipantSort {
+    NAME,
+    REGISTERED_AT
+}
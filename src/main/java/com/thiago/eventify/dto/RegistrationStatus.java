@@ -0,0 +1,6 @@
+package com.thiago.eventify.dto;
+
+public enum RegistrationStatus {
+    REGISTERED,
+    WAITLISTED
+}
@@ -3,6 +3,7 @@ package com.thiago.eventify.dto;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
@@ -23,6 +24,9 @@ public record UpdateEventDTO(
         )
         String cep,
 
-        String addressNumber
+        String addressNumber,
+
+        @Positive(message = "A capacidade do evento deve ser maior que zero.")
+        Integer capacity
 ) {
 }
@@ -0,0 +1,8 @@
+package com.thiago.eventify.dto;
+
+import com.thiago.eventify.client.dto.WeatherForecastApiResponseDTO;
+
+import java.time.Instant;
+
+public record WeatherForecastSnapshotDTO(WeatherForecastApiResponseDTO forecast, Instant fetchedAt, boolean stale) {
+}
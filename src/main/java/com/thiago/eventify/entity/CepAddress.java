@@ -0,0 +1,41 @@
+package com.thiago.eventify.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tb_cep_addresses")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CepAddress {
+
+    @Id
+    @Column(name = "cep", length = 8)
+    private String cep;
+
+    @Column(name = "address")
+    private String address;
+
+    @Column(name = "district")
+    private String district;
+
+    @Column(name = "state")
+    private String state;
+
+    @Column(name = "city")
+    private String city;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+}
@@ -1,25 +1,32 @@
 package com.thiago.eventify.entity;
 
+import com.thiago.eventify.entity.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Data;
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_events")
+@Table(name = "tb_events", indexes = {
+        @Index(name = "idx_events_date_time_id", columnList = "date_time, id"),
+        @Index(name = "idx_events_city_date_time_id", columnList = "city, date_time, id"),
+        @Index(name = "idx_events_state_date_time_id", columnList = "state, date_time, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 @Data
 @NoArgsConstructor
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(name = "owner_id", nullable = false)
@@ -56,15 +63,23 @@ public class Event {
     @NotBlank(message = "O bairro do evento não pode ser vazio.")
     private String district;
 
-    @ManyToMany
-    @JoinTable(
-            name = "tb_event_participants",
-            joinColumns = @JoinColumn(name = "event_id"),
-            inverseJoinColumns = @JoinColumn(name = "participant_id")
-    )
-    @EqualsAndHashCode.Exclude
-    @ToString.Exclude
-    private Set<User> participants = new HashSet<>();
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "capacity")
+    private Integer capacity;
+
+    @Generated(event = EventType.UPDATE)
+    @Column(name = "participants_count", insertable = false, updatable = false,
+            columnDefinition = "integer default 0 not null")
+    private Integer participantsCount = 0;
+
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
 
     public Event(UUID id, UUID ownerId, String title, String description, LocalDateTime dateTime, String cep,
                  String address, String addressNumber, String city, String state, String district) {
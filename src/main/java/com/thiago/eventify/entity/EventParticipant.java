@@ -0,0 +1,42 @@
+package com.thiago.eventify.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tb_event_participants", indexes = @Index(name = "idx_event_participants_event_registered_at",
+        columnList = "event_id, registered_at, participant_id"))
+@Data
+@NoArgsConstructor
+public class EventParticipant {
+
+    @EmbeddedId
+    private EventParticipantId id;
+
+    @MapsId("eventId")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Event event;
+
+    @MapsId("participantId")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "participant_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private User participant;
+
+    @Column(name = "registered_at", insertable = false, updatable = false,
+            columnDefinition = "timestamp default current_timestamp not null")
+    private LocalDateTime registeredAt;
+}
@@ -1,23 +1,24 @@
 package com.thiago.eventify.entity;
 
+import com.thiago.eventify.entity.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.Data;
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
-import java.util.HashSet;
-import java.util.Set;
 import java.util.UUID;
 
 @Entity
 @Table(name = "tb_users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Data
 @NoArgsConstructor
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(name = "name", nullable = false, length = 100)
@@ -32,11 +33,6 @@ public class User {
     @Column(name = "pin", nullable = false, length = 4)
     private String pin;
 
-    @ManyToMany(mappedBy = "participants")
-    @EqualsAndHashCode.Exclude
-    @ToString.Exclude
-    private Set<Event> participatingEvents = new HashSet<>();
-
     public User(UUID id, String name, String cpf, String email, String pin) {
         this.id = id;
         this.name = name;
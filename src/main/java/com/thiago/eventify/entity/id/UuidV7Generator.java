@@ -0,0 +1,23 @@
+package com.thiago.eventify.entity.id;
+
+import com.thiago.eventify.util.UuidV7;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType){
+        return UuidV7.randomUUID();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes(){
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -4,25 +4,40 @@ import com.thiago.eventify.exception.response.ErrorResponse;
 import com.thiago.eventify.exception.response.ValidationErrorResponse;
 import com.thiago.eventify.exception.type.*;
 import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.hibernate.ObjectNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final Duration rejectionRetryAfter;
+
+    public GlobalExceptionHandler(
+            @Value("${eventify.executor.rejection-retry-after:PT1S}") Duration rejectionRetryAfter){
+        this.rejectionRetryAfter = rejectionRetryAfter;
+    }
+
     private ResponseEntity<ErrorResponse> buildErrorResponse(HttpStatus status, String message, HttpServletRequest req){
         ErrorResponse error = new ErrorResponse(status.value(), status.getReasonPhrase(), message, req.getRequestURI(),
                 LocalDateTime.now());
@@ -56,12 +71,40 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_GATEWAY, message, req);
     }
 
+    @ExceptionHandler({UpstreamTimeoutException.class, AsyncRequestTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleUpstreamTimeout(RuntimeException ex, HttpServletRequest req) {
+        return buildErrorResponse(HttpStatus.GATEWAY_TIMEOUT, "Tempo limite excedido ao acessar serviço externo.", req);
+    }
+
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<ErrorResponse> handleUpstreamUnavailable(RuntimeException ex, HttpServletRequest req) {
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Serviço externo temporariamente indisponível.",
+                req);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleExecutorSaturated(RejectedExecutionException ex,
+                                                                 HttpServletRequest req) {
+        ResponseEntity<ErrorResponse> response = buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                "Servidor sobrecarregado. Tente novamente em instantes.", req);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, this.rejectionRetryAfter.toSeconds())))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex,
                                                                       HttpServletRequest req){
         return buildErrorResponse(HttpStatus.CONFLICT, "Ocorreu um erro de integridade de dados.", req);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdate(OptimisticLockingFailureException ex,
+                                                                HttpServletRequest req){
+        return buildErrorResponse(HttpStatus.CONFLICT,
+                "O registro foi alterado por outra requisição. Tente novamente.", req);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationError(MethodArgumentNotValidException ex,
                                                                          HttpServletRequest req) {
@@ -0,0 +1,7 @@
+package com.thiago.eventify.exception.type;
+
+public class UpstreamTimeoutException extends RuntimeException {
+    public UpstreamTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,43 @@
+package com.thiago.eventify.job;
+
+import com.thiago.eventify.entity.Event;
+import com.thiago.eventify.service.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "eventify.backfill.coordinates.enabled", havingValue = "true")
+public class EventCoordinatesBackfillJob implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCoordinatesBackfillJob.class);
+
+    private final EventService eventService;
+    private final int batchSize;
+
+    public EventCoordinatesBackfillJob(EventService eventService,
+                                       @Value("${eventify.backfill.coordinates.batch-size:100}") int batchSize){
+        this.eventService = eventService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args){
+        UUID lastId = new UUID(0L, 0L);
+        int processed = 0;
+        List<Event> batch;
+        do {
+            batch = this.eventService.backfillCoordinates(lastId, this.batchSize);
+            if (!batch.isEmpty()) lastId = batch.get(batch.size() - 1).getId();
+            processed += batch.size();
+        } while (batch.size() == this.batchSize);
+        logger.info("Backfill de coordenadas concluído: {} eventos processados.", processed);
+    }
+}
@@ -0,0 +1,43 @@
+package com.thiago.eventify.job;
+
+import com.thiago.eventify.service.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConditionalOnProperty(name = "eventify.forecast-prefetch.enabled", havingValue = "true")
+public class ForecastPrefetchJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForecastPrefetchJob.class);
+
+    private final EventService eventService;
+    private final Duration window;
+    private final double callsPerSecond;
+
+    public ForecastPrefetchJob(EventService eventService,
+                               @Value("${eventify.forecast-prefetch.window:P14D}") Duration window,
+                               @Value("${eventify.forecast-prefetch.calls-per-second:2}") double callsPerSecond){
+        if (!(callsPerSecond > 0)) {
+            throw new IllegalArgumentException("A taxa de chamadas do pré-carregamento deve ser maior que zero.");
+        }
+        this.eventService = eventService;
+        this.window = window;
+        this.callsPerSecond = callsPerSecond;
+    }
+
+    @Scheduled(cron = "${eventify.forecast-prefetch.cron:0 2 * * * *}")
+    public void prefetch(){
+        try {
+            int refreshed = this.eventService.prefetchUpcomingWeatherInfo(this.window, this.callsPerSecond);
+            logger.info("Pré-carregamento de previsões do tempo concluído: {} localizações atualizadas.", refreshed);
+        } catch (RuntimeException ex) {
+            logger.error("Falha no pré-carregamento de previsões do tempo: {}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.thiago.eventify.job;
+
+import com.thiago.eventify.service.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "eventify.backfill.participants-count.enabled", havingValue = "true")
+public class ParticipantsCountBackfillJob implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantsCountBackfillJob.class);
+
+    private final EventService eventService;
+    private final int batchSize;
+
+    public ParticipantsCountBackfillJob(EventService eventService,
+                                        @Value("${eventify.backfill.participants-count.batch-size:500}") int batchSize){
+        this.eventService = eventService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args){
+        UUID lastId = new UUID(0L, 0L);
+        int processed = 0;
+        List<UUID> batch;
+        do {
+            batch = this.eventService.recountParticipants(lastId, this.batchSize);
+            if (!batch.isEmpty()) lastId = batch.get(batch.size() - 1);
+            processed += batch.size();
+        } while (batch.size() == this.batchSize);
+        logger.info("Recontagem de participantes concluída: {} eventos processados.", processed);
+    }
+}
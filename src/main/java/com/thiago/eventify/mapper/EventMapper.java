@@ -1,13 +1,14 @@
 package com.thiago.eventify.mapper;
 
-import com.thiago.eventify.client.dto.WeatherForecastApiResponseDTO;
 import com.thiago.eventify.dto.CreateEventDTO;
 import com.thiago.eventify.dto.EventDTO;
 import com.thiago.eventify.dto.EventWithWeatherForecastDTO;
 import com.thiago.eventify.dto.UpdateEventDTO;
+import com.thiago.eventify.dto.WeatherForecastSnapshotDTO;
 import com.thiago.eventify.entity.Event;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -23,6 +24,7 @@ public class EventMapper {
         event.setDateTime(data.dateTime());
         event.setCep(data.cep());
         event.setAddressNumber(data.addressNumber());
+        event.setCapacity(data.capacity());
         return event;
     }
 
@@ -34,8 +36,16 @@ public class EventMapper {
         if (Objects.nonNull(data.addressNumber())) event.setAddressNumber(data.addressNumber());
     }
 
-    public EventWithWeatherForecastDTO toDTO(Event event, WeatherForecastApiResponseDTO weatherData){
-        return new EventWithWeatherForecastDTO(toDTO(event), weatherData.daily());
+    public EventWithWeatherForecastDTO toDTO(Event event, WeatherForecastSnapshotDTO weatherData){
+        return new EventWithWeatherForecastDTO(toDTO(event), weatherData.forecast().daily(), weatherData.stale());
+    }
+
+    public List<EventWithWeatherForecastDTO> toDTOList(List<Event> events, List<WeatherForecastSnapshotDTO> weatherData){
+        List<EventWithWeatherForecastDTO> dtoList = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            dtoList.add(toDTO(events.get(i), weatherData.get(i)));
+        }
+        return dtoList;
     }
 
     public List<EventDTO> toDTOList(List<Event> events){
@@ -45,6 +55,6 @@ public class EventMapper {
     private EventDTO toDTO(Event event){
         return new EventDTO(event.getId(), event.getTitle(), event.getDescription(),
                 event.getDateTime(), event.getCep(), event.getAddress(), event.getAddressNumber(), event.getCity(),
-                event.getState(), event.getDistrict());
+                event.getState(), event.getDistrict(), event.getCapacity(), event.getParticipantsCount());
     }
 }
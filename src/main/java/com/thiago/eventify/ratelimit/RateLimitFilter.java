@@ -0,0 +1,146 @@
+package com.thiago.eventify.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thiago.eventify.config.RateLimitProperties;
+import com.thiago.eventify.exception.response.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<Route> routes = new ArrayList<>();
+    private final Cache<String, TokenBucket> buckets;
+    private final ObjectMapper objectMapper;
+    private final Counter ipRejections;
+    private final Counter userRejections;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry){
+        this.objectMapper = objectMapper;
+        Duration idleTimeout = properties.idleTimeout();
+        for (int i = 0; i < properties.routes().size(); i++) {
+            RateLimitProperties.Route route = properties.routes().get(i);
+            this.routes.add(new Route(i, route, PathPatternParser.defaultInstance.parse(route.pattern())));
+            if (route.period().compareTo(idleTimeout) > 0) idleTimeout = route.period();
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maximumBuckets())
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.buckets, "rate-limit-buckets");
+        this.ipRejections = Counter.builder("eventify.rate-limit.rejections").tag("key", "ip")
+                .register(meterRegistry);
+        this.userRejections = Counter.builder("eventify.rate-limit.rejections").tag("key", "user")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI()
+                .substring(request.getContextPath().length()));
+        for (Route route : this.routes) {
+            if (!route.matchesMethod(request.getMethod())) continue;
+            PathPattern.PathMatchInfo match = route.pattern.matchAndExtract(path);
+            if (match == null) continue;
+            if (this.isLimited(route, request, match, response)) return;
+            break;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private boolean isLimited(Route route, HttpServletRequest request, PathPattern.PathMatchInfo match,
+                              HttpServletResponse response) throws IOException {
+        long now = System.nanoTime();
+        long wait = this.bucket(route.index + ":ip:" + request.getRemoteAddr(), route.config.ipCapacity(),
+                route.config.period(), now).tryAcquire(now);
+        if (wait > 0) {
+            this.ipRejections.increment();
+            this.reject(request, response, wait);
+            return true;
+        }
+        UUID userId = route.userId(request, match);
+        if (userId == null) return false;
+        wait = this.bucket(route.index + ":user:" + userId, route.config.userCapacity(), route.config.period(), now)
+                .tryAcquire(now);
+        if (wait > 0) {
+            this.userRejections.increment();
+            this.reject(request, response, wait);
+            return true;
+        }
+        return false;
+    }
+
+    private TokenBucket bucket(String key, long capacity, Duration period, long now){
+        return this.buckets.get(key, ignored -> new TokenBucket(capacity, period, now));
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos)
+            throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        ErrorResponse error = new ErrorResponse(status.value(), status.getReasonPhrase(),
+                "Muitas requisições. Tente novamente em " + retryAfter + " segundo(s).", request.getRequestURI(),
+                LocalDateTime.now());
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        this.objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static final class Route {
+
+        private final int index;
+        private final RateLimitProperties.Route config;
+        private final PathPattern pattern;
+        private final Set<String> methods;
+
+        private Route(int index, RateLimitProperties.Route config, PathPattern pattern){
+            this.index = index;
+            this.config = config;
+            this.pattern = pattern;
+            this.methods = config.methods().stream().map(String::toUpperCase).collect(Collectors.toSet());
+        }
+
+        private boolean matchesMethod(String method){
+            return this.methods.isEmpty() || this.methods.contains(method);
+        }
+
+        private UUID userId(HttpServletRequest request, PathPattern.PathMatchInfo match){
+            if (this.config.userParameter() == null) return null;
+            String value = match.getUriVariables().get(this.config.userParameter());
+            if (value == null) value = request.getParameter(this.config.userParameter());
+            if (value == null) return null;
+            try {
+                return UUID.fromString(value);
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.thiago.eventify.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket kept as a single "theoretical arrival time" (GCRA), so a permit is one CAS without locks.
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long periodNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long capacity, Duration period, long nowNanos){
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        this.periodNanos = period.toNanos();
+        this.emissionIntervalNanos = Math.max(1, this.periodNanos / capacity);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    public long tryAcquire(long nowNanos){
+        while (true) {
+            long current = this.theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + this.emissionIntervalNanos;
+            long excess = next - nowNanos - this.periodNanos;
+            if (excess > 0) return excess;
+            if (this.theoreticalArrival.compareAndSet(current, next)) return 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.thiago.eventify.repository;
+
+import com.thiago.eventify.entity.CepAddress;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface CepAddressRepository extends JpaRepository<CepAddress, String> {
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_cep_addresses"))
+    @Query(value = "INSERT INTO tb_cep_addresses (cep, address, district, state, city, latitude, longitude, fetched_at) " +
+            "VALUES (:cep, :address, :district, :state, :city, :latitude, :longitude, :fetchedAt) " +
+            "ON CONFLICT (cep) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("cep") String cep, @Param("address") String address,
+                        @Param("district") String district, @Param("state") String state,
+                        @Param("city") String city, @Param("latitude") Double latitude,
+                        @Param("longitude") Double longitude, @Param("fetchedAt") LocalDateTime fetchedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE CepAddress c SET c.address = :address, c.district = :district, c.state = :state, " +
+            "c.city = :city, c.latitude = :latitude, c.longitude = :longitude, c.fetchedAt = :fetchedAt " +
+            "WHERE c.cep = :cep")
+    void refresh(@Param("cep") String cep, @Param("address") String address, @Param("district") String district,
+                 @Param("state") String state, @Param("city") String city, @Param("latitude") Double latitude,
+                 @Param("longitude") Double longitude, @Param("fetchedAt") LocalDateTime fetchedAt);
+}
@@ -1,11 +1,97 @@
 package com.thiago.eventify.repository;
 
+import com.thiago.eventify.dto.CoordinatesDTO;
+import com.thiago.eventify.dto.ParticipantDTO;
 import com.thiago.eventify.entity.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, UUID> {
+public interface EventRepository extends JpaRepository<Event, UUID>, JpaSpecificationExecutor<Event>,
+        EventRepositoryCustom {
+
+    String PARTICIPANT_SELECT = "SELECT new com.thiago.eventify.dto.ParticipantDTO(u.id, u.name, u.email, " +
+            "p.registeredAt) FROM EventParticipant p JOIN p.participant u ";
+
+    List<Event> findByLatitudeIsNullAndIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    @Query("SELECT DISTINCT new com.thiago.eventify.dto.CoordinatesDTO(e.latitude, e.longitude) FROM Event e " +
+            "WHERE e.dateTime BETWEEN :from AND :to AND e.latitude IS NOT NULL AND e.longitude IS NOT NULL")
+    List<CoordinatesDTO> findCoordinatesByDateTimeBetween(@Param("from") LocalDateTime from,
+                                                          @Param("to") LocalDateTime to);
+
+    @Query(PARTICIPANT_SELECT + "WHERE p.id.eventId = :eventId ORDER BY u.name, u.id")
+    List<ParticipantDTO> findParticipantsOrderByName(@Param("eventId") UUID eventId, Limit limit);
+
+    @Query(PARTICIPANT_SELECT + "WHERE p.id.eventId = :eventId " +
+            "AND (u.name > :name OR (u.name = :name AND u.id > :id)) ORDER BY u.name, u.id")
+    List<ParticipantDTO> findParticipantsOrderByNameAfter(@Param("eventId") UUID eventId,
+                                                          @Param("name") String name, @Param("id") UUID id,
+                                                          Limit limit);
+
+    @Query(PARTICIPANT_SELECT + "WHERE p.id.eventId = :eventId ORDER BY p.registeredAt, p.id.participantId")
+    List<ParticipantDTO> findParticipantsOrderByRegisteredAt(@Param("eventId") UUID eventId, Limit limit);
+
+    @Query(PARTICIPANT_SELECT + "WHERE p.id.eventId = :eventId AND (p.registeredAt > :registeredAt " +
+            "OR (p.registeredAt = :registeredAt AND p.id.participantId > :id)) " +
+            "ORDER BY p.registeredAt, p.id.participantId")
+    List<ParticipantDTO> findParticipantsOrderByRegisteredAtAfter(@Param("eventId") UUID eventId,
+                                                                  @Param("registeredAt") LocalDateTime registeredAt,
+                                                                  @Param("id") UUID id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PARTICIPANT_SELECT + "WHERE p.id.eventId = :eventId ORDER BY u.name, u.id")
+    Stream<ParticipantDTO> streamParticipantsOrderByName(@Param("eventId") UUID eventId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PARTICIPANT_SELECT + "WHERE p.id.eventId = :eventId ORDER BY p.registeredAt, p.id.participantId")
+    Stream<ParticipantDTO> streamParticipantsOrderByRegisteredAt(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("DELETE FROM EventParticipant p WHERE p.id.eventId = :eventId")
+    int removeAllParticipants(@Param("eventId") UUID eventId);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM tb_event_participants " +
+            "WHERE event_id = :eventId AND participant_id = :userId)", nativeQuery = true)
+    boolean isParticipant(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_event_participants"))
+    @Query(value = "INSERT INTO tb_event_participants (event_id, participant_id) VALUES (:eventId, :userId) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int addParticipant(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_event_participants"))
+    @Query(value = "DELETE FROM tb_event_participants WHERE event_id = :eventId AND participant_id = :userId",
+            nativeQuery = true)
+    int removeParticipant(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
+
+    @Query("SELECT e.id FROM Event e WHERE e.id > :id ORDER BY e.id")
+    List<UUID> findIdsAfter(@Param("id") UUID id, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query(value = "SELECT participant_id FROM tb_event_participants " +
+            "WHERE event_id = :eventId AND participant_id IN (:userIds)", nativeQuery = true)
+    List<UUID> findParticipantIdsIn(@Param("eventId") UUID eventId, @Param("userIds") Collection<UUID> userIds);
 }
@@ -0,0 +1,33 @@
+package com.thiago.eventify.repository;
+
+import com.thiago.eventify.dto.EventDTO;
+import com.thiago.eventify.dto.EventFilterDTO;
+import com.thiago.eventify.entity.Event;
+import com.thiago.eventify.util.CursorCodec;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface EventRepositoryCustom {
+
+    List<EventDTO> findDTOPage(EventFilterDTO filter, CursorCodec.Cursor after, int limit);
+
+    Stream<EventDTO> streamDTOs(EventFilterDTO filter, int fetchSize);
+
+    void insertAll(List<Event> events);
+
+    void addParticipants(UUID eventId, List<UUID> userIds);
+
+    void removeParticipants(UUID eventId, List<UUID> userIds);
+
+    int reserveSeat(UUID id);
+
+    int releaseSeat(UUID id);
+
+    int updateCapacity(UUID id, Integer capacity);
+
+    int adjustParticipantsCount(UUID id, int delta);
+
+    int recountParticipants(List<UUID> ids);
+}
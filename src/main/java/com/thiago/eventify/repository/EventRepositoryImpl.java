@@ -0,0 +1,152 @@
+package com.thiago.eventify.repository;
+
+import com.thiago.eventify.dto.EventDTO;
+import com.thiago.eventify.dto.EventFilterDTO;
+import com.thiago.eventify.entity.Event;
+import com.thiago.eventify.util.CursorCodec;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    private static final String INSERT_PARTICIPANT = "INSERT INTO tb_event_participants (event_id, participant_id) " +
+            "VALUES (?, ?) ON CONFLICT DO NOTHING";
+    private static final String DELETE_PARTICIPANT = "DELETE FROM tb_event_participants " +
+            "WHERE event_id = ? AND participant_id = ?";
+    private static final String RESERVE_SEAT = "UPDATE tb_events SET participants_count = participants_count + 1 " +
+            "WHERE id = :id AND (capacity IS NULL OR participants_count < capacity)";
+    private static final String RELEASE_SEAT = "UPDATE tb_events SET participants_count = participants_count - 1 " +
+            "WHERE id = :id AND participants_count > 0";
+    private static final String UPDATE_CAPACITY = "UPDATE tb_events SET capacity = :capacity " +
+            "WHERE id = :id AND participants_count <= :capacity";
+    private static final String ADJUST_PARTICIPANTS_COUNT = "UPDATE tb_events " +
+            "SET participants_count = participants_count + :delta WHERE id = :id";
+    private static final String RECOUNT_PARTICIPANTS = "UPDATE tb_events SET participants_count = " +
+            "(SELECT COUNT(*) FROM tb_event_participants p WHERE p.event_id = tb_events.id) WHERE id IN (:ids)";
+
+    // Not mapped by any entity: seat updates must not invalidate the whole events region, only the touched rows.
+    private static final String SEATS_QUERY_SPACE = "tb_events_seats";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public EventRepositoryImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                               @Value("${eventify.bulk.batch-size:500}") int batchSize){
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<EventDTO> findDTOPage(EventFilterDTO filter, CursorCodec.Cursor after, int limit){
+        return this.createDTOQuery(filter, after).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<EventDTO> streamDTOs(EventFilterDTO filter, int fetchSize){
+        return this.createDTOQuery(filter, null).setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize).getResultStream();
+    }
+
+    private TypedQuery<EventDTO> createDTOQuery(EventFilterDTO filter, CursorCodec.Cursor after){
+        CriteriaBuilder builder = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventDTO> query = builder.createQuery(EventDTO.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(builder.construct(EventDTO.class, root.get("id"), root.get("title"), root.get("description"),
+                        root.get("dateTime"), root.get("cep"), root.get("address"), root.get("addressNumber"),
+                        root.get("city"), root.get("state"), root.get("district"), root.get("capacity"),
+                        root.get("participantsCount")))
+                .where(EventSpecifications.matching(filter, after).toPredicate(root, query, builder))
+                .orderBy(builder.asc(root.get("dateTime")), builder.asc(root.get("id")));
+        return this.entityManager.createQuery(query);
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Event> events){
+        for (Event event : events) {
+            this.entityManager.persist(event);
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    @Override
+    public void addParticipants(UUID eventId, List<UUID> userIds){
+        this.batchByEvent(INSERT_PARTICIPANT, eventId, userIds);
+    }
+
+    @Override
+    public void removeParticipants(UUID eventId, List<UUID> userIds){
+        this.batchByEvent(DELETE_PARTICIPANT, eventId, userIds);
+    }
+
+    private void batchByEvent(String sql, UUID eventId, List<UUID> userIds){
+        this.jdbcTemplate.batchUpdate(sql, userIds, this.batchSize, (statement, userId) -> {
+            statement.setObject(1, eventId);
+            statement.setObject(2, userId);
+        });
+    }
+
+    @Override
+    public int reserveSeat(UUID id){
+        return this.updateSeats(this.seatsQuery(RESERVE_SEAT).setParameter("id", id), List.of(id));
+    }
+
+    @Override
+    public int releaseSeat(UUID id){
+        return this.updateSeats(this.seatsQuery(RELEASE_SEAT).setParameter("id", id), List.of(id));
+    }
+
+    @Override
+    public int updateCapacity(UUID id, Integer capacity){
+        return this.updateSeats(this.seatsQuery(UPDATE_CAPACITY).setParameter("id", id)
+                .setParameter("capacity", capacity), List.of(id));
+    }
+
+    @Override
+    public int adjustParticipantsCount(UUID id, int delta){
+        return this.updateSeats(this.seatsQuery(ADJUST_PARTICIPANTS_COUNT).setParameter("id", id)
+                .setParameter("delta", delta), List.of(id));
+    }
+
+    @Override
+    public int recountParticipants(List<UUID> ids){
+        return this.updateSeats(this.seatsQuery(RECOUNT_PARTICIPANTS).setParameter("ids", ids), List.copyOf(ids));
+    }
+
+    private Query seatsQuery(String sql){
+        return this.entityManager.createNativeQuery(sql).setHint(HibernateHints.HINT_NATIVE_SPACES, SEATS_QUERY_SPACE);
+    }
+
+    private int updateSeats(Query query, List<UUID> ids){
+        int updated = query.executeUpdate();
+        Cache cache = this.entityManager.getEntityManagerFactory().getCache();
+        ids.forEach(id -> cache.evict(Event.class, id));
+        // Concurrent loads may cache the pre-commit row again until this transaction completes.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status){
+                    ids.forEach(id -> cache.evict(Event.class, id));
+                }
+            });
+        }
+        return updated;
+    }
+}
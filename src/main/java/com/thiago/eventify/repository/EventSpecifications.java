@@ -0,0 +1,42 @@
+package com.thiago.eventify.repository;
+
+import com.thiago.eventify.dto.EventFilterDTO;
+import com.thiago.eventify.entity.Event;
+import com.thiago.eventify.util.CursorCodec;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class EventSpecifications {
+
+    public static final Sort KEYSET_ORDER = Sort.by(Sort.Order.asc("dateTime"), Sort.Order.asc("id"));
+
+    private EventSpecifications(){
+    }
+
+    public static Specification<Event> matching(EventFilterDTO filter, CursorCodec.Cursor after){
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.city() != null) predicates.add(builder.equal(root.get("city"), filter.city()));
+            if (filter.state() != null) predicates.add(builder.equal(root.get("state"), filter.state()));
+            if (filter.from() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.<LocalDateTime>get("dateTime"), filter.from()));
+            }
+            if (filter.to() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.<LocalDateTime>get("dateTime"), filter.to()));
+            }
+            if (after != null) {
+                predicates.add(builder.or(
+                        builder.greaterThan(root.<LocalDateTime>get("dateTime"), after.dateTime()),
+                        builder.and(builder.equal(root.get("dateTime"), after.dateTime()),
+                                builder.greaterThan(root.<UUID>get("id"), after.id()))));
+            }
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -1,11 +1,28 @@
 package com.thiago.eventify.repository;
 
+import com.thiago.eventify.dto.EventDTO;
 import com.thiago.eventify.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+
+    @Query("SELECT new com.thiago.eventify.dto.EventDTO(e.id, e.title, e.description, e.dateTime, e.cep, " +
+            "e.address, e.addressNumber, e.city, e.state, e.district, e.capacity, e.participantsCount) " +
+            "FROM EventParticipant p JOIN p.event e WHERE p.id.participantId = :userId ORDER BY e.dateTime, e.id")
+    List<EventDTO> findEventDTOsByParticipantId(@Param("userId") UUID userId);
+
+    @Query("SELECT u.pin FROM User u WHERE u.id = :id")
+    Optional<String> findPinById(@Param("id") UUID id);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
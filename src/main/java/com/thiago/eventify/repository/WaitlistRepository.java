@@ -0,0 +1,49 @@
+package com.thiago.eventify.repository;
+
+import com.thiago.eventify.entity.WaitlistEntry;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long>, WaitlistRepositoryCustom {
+
+    boolean existsByEventIdAndUserId(UUID eventId, UUID userId);
+
+    Optional<WaitlistEntry> findFirstByEventIdOrderByCreatedAtAscIdAsc(UUID eventId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<WaitlistEntry> findByEventIdOrderByCreatedAtAscIdAsc(UUID eventId, Limit limit);
+
+    @Query("SELECT w.user.id FROM WaitlistEntry w WHERE w.event.id = :eventId AND w.user.id IN :userIds")
+    List<UUID> findUserIdsIn(@Param("eventId") UUID eventId, @Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_event_waitlist"))
+    @Query(value = "INSERT INTO tb_event_waitlist (event_id, user_id, created_at) " +
+            "VALUES (:eventId, :userId, :createdAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int enqueue(@Param("eventId") UUID eventId, @Param("userId") UUID userId,
+                @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.event.id = :eventId AND w.user.id = :userId")
+    int dequeue(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.id = :id")
+    int claim(@Param("id") Long id);
+}
@@ -0,0 +1,12 @@
+package com.thiago.eventify.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface WaitlistRepositoryCustom {
+
+    void enqueueAll(UUID eventId, List<UUID> userIds, LocalDateTime createdAt);
+
+    void dequeueAll(UUID eventId, List<UUID> userIds);
+}
@@ -0,0 +1,42 @@
+package com.thiago.eventify.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class WaitlistRepositoryImpl implements WaitlistRepositoryCustom {
+
+    private static final String INSERT_ENTRY = "INSERT INTO tb_event_waitlist (event_id, user_id, created_at) " +
+            "VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+    private static final String DELETE_ENTRY = "DELETE FROM tb_event_waitlist WHERE event_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public WaitlistRepositoryImpl(JdbcTemplate jdbcTemplate, @Value("${eventify.bulk.batch-size:500}") int batchSize){
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void enqueueAll(UUID eventId, List<UUID> userIds, LocalDateTime createdAt){
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        this.jdbcTemplate.batchUpdate(INSERT_ENTRY, userIds, this.batchSize, (statement, userId) -> {
+            statement.setObject(1, eventId);
+            statement.setObject(2, userId);
+            statement.setTimestamp(3, timestamp);
+        });
+    }
+
+    @Override
+    public void dequeueAll(UUID eventId, List<UUID> userIds){
+        this.jdbcTemplate.batchUpdate(DELETE_ENTRY, userIds, this.batchSize, (statement, userId) -> {
+            statement.setObject(1, eventId);
+            statement.setObject(2, userId);
+        });
+    }
+}
@@ -0,0 +1,305 @@
+package com.thiago.eventify.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thiago.eventify.client.dto.AwesomeApiResponseDTO;
+import com.thiago.eventify.dto.CreateEventDTO;
+import com.thiago.eventify.dto.EventImportErrorDTO;
+import com.thiago.eventify.dto.EventImportFormat;
+import com.thiago.eventify.dto.EventImportReportDTO;
+import com.thiago.eventify.entity.Event;
+import com.thiago.eventify.exception.type.InvalidInputException;
+import com.thiago.eventify.mapper.EventMapper;
+import com.thiago.eventify.repository.EventRepository;
+import com.thiago.eventify.util.Futures;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+@Service
+public class EventImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventImportService.class);
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "description", "dateTime", "cep");
+
+    private final EventRepository eventRepository;
+    private final UserService userService;
+    private final EventMapper eventMapper;
+    private final GeocodingService geocodingService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final Executor upstreamExecutor;
+    private final Duration upstreamTimeout;
+    private final int batchSize;
+    private final int geocodingParallelism;
+
+    public EventImportService(EventRepository eventRepository, UserService userService, EventMapper eventMapper,
+                              GeocodingService geocodingService, Validator validator, ObjectMapper objectMapper,
+                              @Qualifier("upstreamExecutor") Executor upstreamExecutor,
+                              @Value("${eventify.upstream.timeout:PT3S}") Duration upstreamTimeout,
+                              @Value("${eventify.import.batch-size:500}") int batchSize,
+                              @Value("${eventify.import.geocoding-parallelism:8}") int geocodingParallelism){
+        this.eventRepository = eventRepository;
+        this.userService = userService;
+        this.eventMapper = eventMapper;
+        this.geocodingService = geocodingService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.upstreamExecutor = upstreamExecutor;
+        this.upstreamTimeout = upstreamTimeout;
+        this.batchSize = batchSize;
+        this.geocodingParallelism = geocodingParallelism;
+    }
+
+    public EventImportReportDTO importEvents(UUID ownerId, String ownerPin, EventImportFormat format,
+                                             InputStream input) throws IOException {
+        this.userService.validateCredentials(ownerId, ownerPin);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Report report = new Report();
+        Map<String, AwesomeApiResponseDTO> addresses = new HashMap<>();
+        Map<String, String> failedCeps = new HashMap<>();
+        List<Row> chunk = new ArrayList<>(this.batchSize);
+
+        long nextLineNumber = 1;
+        Map<String, Integer> columns = null;
+        if (format == EventImportFormat.CSV) {
+            String header = readCsvRecord(reader);
+            columns = parseHeader(header);
+            nextLineNumber += physicalLines(header);
+        }
+        String line;
+        while ((line = format == EventImportFormat.CSV ? readCsvRecord(reader) : reader.readLine()) != null) {
+            long lineNumber = nextLineNumber;
+            nextLineNumber += physicalLines(line);
+            if (line.isBlank()) continue;
+            report.totalRows++;
+            try {
+                CreateEventDTO data = format == EventImportFormat.CSV
+                        ? this.parseCsvRow(columns, line, ownerId) : this.parseJsonRow(line, ownerId);
+                this.validate(data);
+                chunk.add(new Row(lineNumber, data));
+            } catch (InvalidInputException ex) {
+                report.fail(lineNumber, ex.getMessage());
+            }
+            if (chunk.size() == this.batchSize) {
+                this.importChunk(chunk, addresses, failedCeps, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) this.importChunk(chunk, addresses, failedCeps, report);
+        return report.toDTO();
+    }
+
+    private void importChunk(List<Row> chunk, Map<String, AwesomeApiResponseDTO> addresses,
+                             Map<String, String> failedCeps, Report report){
+        Set<String> pending = chunk.stream().map(row -> row.data().cep())
+                .filter(cep -> !addresses.containsKey(cep) && !failedCeps.containsKey(cep))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        this.geocode(pending, addresses, failedCeps);
+
+        List<Event> events = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            AwesomeApiResponseDTO addressData = addresses.get(row.data().cep());
+            if (addressData == null) {
+                report.fail(row.line(), failedCeps.get(row.data().cep()));
+                continue;
+            }
+            Event event = this.eventMapper.toEntity(row.data());
+            EventService.setAddressInfo(addressData, event);
+            events.add(event);
+        }
+        if (events.isEmpty()) return;
+        this.eventRepository.insertAll(events);
+        report.imported += events.size();
+    }
+
+    private void geocode(Set<String> ceps, Map<String, AwesomeApiResponseDTO> addresses,
+                         Map<String, String> failedCeps){
+        Semaphore permits = new Semaphore(this.geocodingParallelism);
+        Map<String, CompletableFuture<AwesomeApiResponseDTO>> lookups = new HashMap<>();
+        for (String cep : ceps) {
+            permits.acquireUninterruptibly();
+            try {
+                CompletableFuture<AwesomeApiResponseDTO> lookup = Futures.supplyWithDeadline(
+                        () -> this.geocodingService.findAddress(cep), this.upstreamExecutor, this.upstreamTimeout);
+                lookup.whenComplete((addressData, ex) -> permits.release());
+                lookups.put(cep, lookup);
+            } catch (RejectedExecutionException ex) {
+                permits.release();
+                failedCeps.put(cep, "Não foi possível consultar o CEP " + cep + " no momento.");
+            }
+        }
+        lookups.forEach((cep, lookup) -> {
+            try {
+                addresses.put(cep, Futures.await(lookup));
+            } catch (RuntimeException ex) {
+                logger.warn("Falha ao consultar o CEP {} durante a importação: {}", cep, ex.getMessage());
+                failedCeps.put(cep, "Não foi possível obter o endereço do CEP " + cep + ".");
+            }
+        });
+    }
+
+    private CreateEventDTO parseJsonRow(String line, UUID ownerId){
+        CreateEventDTO data;
+        try {
+            data = this.objectMapper.readValue(line, CreateEventDTO.class);
+        } catch (JsonProcessingException ex) {
+            throw new InvalidInputException("Linha com JSON inválido.");
+        }
+        if (Objects.isNull(data)) throw new InvalidInputException("Linha com JSON inválido.");
+        if (Objects.nonNull(data.ownerId()) && !data.ownerId().equals(ownerId)) {
+            throw new InvalidInputException("O evento deve pertencer ao dono informado na importação.");
+        }
+        return new CreateEventDTO(ownerId, data.title(), data.description(), data.dateTime(), data.cep(),
+                data.addressNumber(), data.capacity());
+    }
+
+    private CreateEventDTO parseCsvRow(Map<String, Integer> columns, String line, UUID ownerId){
+        if (line.length() > MAX_RECORD_LENGTH) {
+            throw new InvalidInputException("O registro excede o limite de " + MAX_RECORD_LENGTH + " caracteres.");
+        }
+        List<String> values = parseCsvLine(line);
+        try {
+            String dateTime = column(columns, values, "dateTime");
+            String capacity = column(columns, values, "capacity");
+            return new CreateEventDTO(ownerId, column(columns, values, "title"),
+                    column(columns, values, "description"),
+                    Objects.isNull(dateTime) ? null : LocalDateTime.parse(dateTime), column(columns, values, "cep"),
+                    column(columns, values, "addressNumber"),
+                    Objects.isNull(capacity) ? null : Integer.valueOf(capacity));
+        } catch (DateTimeParseException ex) {
+            throw new InvalidInputException("Data do evento inválida. Use o formato yyyy-MM-ddTHH:mm:ss.");
+        } catch (NumberFormatException ex) {
+            throw new InvalidInputException("Capacidade do evento inválida.");
+        }
+    }
+
+    private void validate(CreateEventDTO data){
+        Set<ConstraintViolation<CreateEventDTO>> violations = this.validator.validate(data);
+        if (violations.isEmpty()) return;
+        throw new InvalidInputException(violations.stream().map(ConstraintViolation::getMessage).sorted()
+                .collect(Collectors.joining(" ")));
+    }
+
+    private static Map<String, Integer> parseHeader(String header){
+        if (Objects.isNull(header)) throw new InvalidInputException("O arquivo CSV está vazio.");
+        List<String> names = parseCsvLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidInputException("Colunas obrigatórias ausentes no CSV: " + String.join(", ", missing) +
+                    ".");
+        }
+        return columns;
+    }
+
+    private static String column(Map<String, Integer> columns, List<String> values, String name){
+        Integer index = columns.get(name);
+        if (Objects.isNull(index) || index >= values.size()) return null;
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    static String readCsvRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (Objects.isNull(line)) return null;
+        StringBuilder record = new StringBuilder(line);
+        boolean quoted = isQuoteOpen(false, line);
+        while (quoted && record.length() <= MAX_RECORD_LENGTH && Objects.nonNull(line = reader.readLine())) {
+            record.append('\n').append(line);
+            quoted = isQuoteOpen(true, line);
+        }
+        return record.toString();
+    }
+
+    private static boolean isQuoteOpen(boolean quoted, String line){
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') quoted = !quoted;
+        }
+        return quoted;
+    }
+
+    private static long physicalLines(String record){
+        return 1 + record.chars().filter(c -> c == '\n').count();
+    }
+
+    static List<String> parseCsvLine(String line){
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char current = line.charAt(i);
+            if (quoted) {
+                if (current == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (current == '"') {
+                    quoted = false;
+                } else {
+                    value.append(current);
+                }
+            } else if (current == '"') {
+                quoted = true;
+            } else if (current == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(current);
+            }
+        }
+        if (quoted) throw new InvalidInputException("Campo entre aspas sem aspas de fechamento.");
+        values.add(value.toString());
+        return values;
+    }
+
+    private record Row(long line, CreateEventDTO data) {
+    }
+
+    private static class Report {
+
+        private final List<EventImportErrorDTO> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long failed;
+
+        void fail(long line, String message){
+            this.failed++;
+            if (this.errors.size() < MAX_REPORTED_ERRORS) this.errors.add(new EventImportErrorDTO(line, message));
+        }
+
+        EventImportReportDTO toDTO(){
+            return new EventImportReportDTO(this.totalRows, this.imported, this.failed, this.errors);
+        }
+    }
+}
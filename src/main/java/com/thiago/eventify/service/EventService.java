@@ -1,124 +1,459 @@
 package com.thiago.eventify.service;
 
 import com.thiago.eventify.client.dto.AwesomeApiResponseDTO;
-import com.thiago.eventify.client.dto.WeatherForecastApiResponseDTO;
-import com.thiago.eventify.client.service.AwesomeApiClient;
-import com.thiago.eventify.client.service.WeatherForecastApiClient;
+import com.thiago.eventify.datasource.ReadYourWrites;
+import com.thiago.eventify.dto.BulkParticipantResultDTO;
+import com.thiago.eventify.dto.BulkParticipantStatus;
+import com.thiago.eventify.dto.CoordinatesDTO;
 import com.thiago.eventify.dto.CreateEventDTO;
+import com.thiago.eventify.dto.CursorPageDTO;
+import com.thiago.eventify.dto.EventDTO;
+import com.thiago.eventify.dto.EventFilterDTO;
+import com.thiago.eventify.dto.ParticipantDTO;
+import com.thiago.eventify.dto.ParticipantSort;
+import com.thiago.eventify.dto.RegistrationStatus;
 import com.thiago.eventify.dto.UpdateEventDTO;
+import com.thiago.eventify.dto.WeatherForecastSnapshotDTO;
 import com.thiago.eventify.entity.Event;
-import com.thiago.eventify.entity.User;
+import com.thiago.eventify.entity.WaitlistEntry;
 import com.thiago.eventify.exception.type.AccessDeniedException;
 import com.thiago.eventify.exception.type.ForbiddenEventUpdateException;
 import com.thiago.eventify.exception.type.ForbiddenRegisterException;
 import com.thiago.eventify.exception.type.ImpossibleUnregisterException;
+import com.thiago.eventify.exception.type.InvalidInputException;
 import com.thiago.eventify.mapper.EventMapper;
 import com.thiago.eventify.repository.EventRepository;
+import com.thiago.eventify.repository.EventSpecifications;
+import com.thiago.eventify.repository.WaitlistRepository;
+import com.thiago.eventify.util.CursorCodec;
+import com.thiago.eventify.util.Futures;
 import org.hibernate.ObjectNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static java.time.temporal.ChronoUnit.HOURS;
 
 @Service
 public class EventService {
 
+    private static final Logger logger = LoggerFactory.getLogger(EventService.class);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int IN_CLAUSE_CHUNK_SIZE = 5000;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
     private final EventRepository eventRepository;
+    private final WaitlistRepository waitlistRepository;
     private final UserService userService;
     private final EventMapper eventMapper;
-    private final AwesomeApiClient awesomeApiClient;
-    private final WeatherForecastApiClient weatherForecastApiClient;
+    private final GeocodingService geocodingService;
+    private final WeatherForecastService weatherForecastService;
+    private final Executor upstreamExecutor;
+    private final Duration upstreamTimeout;
+    private final ReadYourWrites readYourWrites;
+    private final TransactionOperations transactionOperations;
 
-    public EventService(EventRepository eventRepository, UserService userService, EventMapper eventMapper,
-                        AwesomeApiClient awesomeApiClient, WeatherForecastApiClient weatherForecastApiClient){
+    public EventService(EventRepository eventRepository, WaitlistRepository waitlistRepository,
+                        UserService userService, EventMapper eventMapper, GeocodingService geocodingService,
+                        WeatherForecastService weatherForecastService,
+                        @Qualifier("upstreamExecutor") Executor upstreamExecutor,
+                        @Value("${eventify.upstream.timeout:PT3S}") Duration upstreamTimeout,
+                        ReadYourWrites readYourWrites, TransactionOperations transactionOperations){
         this.eventRepository = eventRepository;
+        this.waitlistRepository = waitlistRepository;
         this.userService = userService;
         this.eventMapper = eventMapper;
-        this.awesomeApiClient = awesomeApiClient;
-        this.weatherForecastApiClient = weatherForecastApiClient;
+        this.geocodingService = geocodingService;
+        this.weatherForecastService = weatherForecastService;
+        this.upstreamExecutor = upstreamExecutor;
+        this.upstreamTimeout = upstreamTimeout;
+        this.readYourWrites = readYourWrites;
+        this.transactionOperations = transactionOperations;
     }
 
     public Event findById(UUID id){
-        return this.eventRepository.findById(id).orElseThrow(() -> new ObjectNotFoundException(
-                "Evento não encontrado.", id));
+        try (ReadYourWrites.Scope ignored = this.readYourWrites.pinIfRecentlyWritten(id)) {
+            return this.eventRepository.findById(id).orElseThrow(() -> new ObjectNotFoundException(
+                    "Evento não encontrado.", id));
+        }
     }
 
-    public List<Event> findAll(){
-        return this.eventRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPageDTO<EventDTO> findPage(EventFilterDTO filter, String cursor, int limit){
+        CursorCodec.Cursor after = this.validatePageRequest(filter, cursor, limit);
+        List<EventDTO> events = this.eventRepository.findDTOPage(filter, after, limit + 1);
+        return toPage(events, limit, last -> CursorCodec.encode(last.dateTime(), last.id()));
     }
 
-    @Transactional
-    public Event create(CreateEventDTO data, String pin){
-        this.userService.findByIdAndValidate(data.ownerId(), pin);
+    @Transactional(readOnly = true)
+    public CursorPageDTO<Event> findEventPage(EventFilterDTO filter, String cursor, int limit){
+        CursorCodec.Cursor after = this.validatePageRequest(filter, cursor, limit);
+        List<Event> events = this.eventRepository.findBy(EventSpecifications.matching(filter, after),
+                query -> query.sortBy(EventSpecifications.KEYSET_ORDER).limit(limit + 1).all());
+        return toPage(events, limit, last -> CursorCodec.encode(last.getDateTime(), last.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportEvents(EventFilterDTO filter, Consumer<? super EventDTO> consumer){
+        validateFilter(filter);
+        try (Stream<EventDTO> events = this.eventRepository.streamDTOs(filter, EXPORT_FETCH_SIZE)) {
+            events.forEach(consumer);
+        }
+    }
+
+    private CursorCodec.Cursor validatePageRequest(EventFilterDTO filter, String cursor, int limit){
+        validateLimit(limit);
+        validateFilter(filter);
+        return isFirstPage(cursor) ? null : CursorCodec.decode(cursor);
+    }
+
+    private static void validateFilter(EventFilterDTO filter){
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new InvalidInputException("A data inicial não pode ser posterior à data final.");
+        }
+    }
+
+    private static void validateLimit(int limit){
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+        }
+    }
+
+    private static boolean isFirstPage(String cursor){
+        return cursor == null || cursor.isBlank();
+    }
+
+    private static <T> CursorPageDTO<T> toPage(List<T> rows, int limit, Function<T, String> nextCursor){
+        if (rows.size() <= limit) return new CursorPageDTO<>(rows, null);
+        List<T> content = rows.subList(0, limit);
+        return new CursorPageDTO<>(content, nextCursor.apply(content.get(limit - 1)));
+    }
+
+    public Event create(UUID ownerId, String ownerPin, CreateEventDTO data){
+        if (Objects.nonNull(data.ownerId()) && !data.ownerId().equals(ownerId)) {
+            throw new InvalidInputException("O evento deve pertencer ao dono informado.");
+        }
+        CompletableFuture<AwesomeApiResponseDTO> addressData = this.getAddressInfoAsync(data.cep());
+        try {
+            this.userService.validateCredentials(ownerId, ownerPin);
+        } catch (RuntimeException ex) {
+            addressData.cancel(true);
+            throw ex;
+        }
         Event event = this.eventMapper.toEntity(data);
-        AwesomeApiResponseDTO addressData = this.getAddressInfo(event);
-        this.setAddressInfo(addressData, event);
-        return this.eventRepository.save(event);
+        event.setOwnerId(ownerId);
+        setAddressInfo(Futures.await(addressData), event);
+        Event saved = this.eventRepository.save(event);
+        this.readYourWrites.recordWrite(saved.getId());
+        return saved;
     }
 
-    @Transactional
     public Event update(UUID id, UUID ownerId, String ownerPin, UpdateEventDTO data){
-        Event event = this.findEventAndValidateOwner(id, ownerId, ownerPin);
+        CompletableFuture<AwesomeApiResponseDTO> newAddressData = Objects.nonNull(data.cep())
+                ? this.getAddressInfoAsync(data.cep()) : null;
+        AwesomeApiResponseDTO addressData;
+        try {
+            Event current = this.findEventAndValidateOwner(id, ownerId, ownerPin);
+            this.validateEventUpdate(current, data);
+            addressData = this.resolveUpdatedAddress(current, data, newAddressData);
+        } catch (RuntimeException ex) {
+            if (Objects.nonNull(newAddressData)) newAddressData.cancel(true);
+            throw ex;
+        }
+        return this.transactionOperations.execute(status -> this.applyUpdate(id, data, addressData));
+    }
+
+    private AwesomeApiResponseDTO resolveUpdatedAddress(Event event, UpdateEventDTO data,
+                                                        CompletableFuture<AwesomeApiResponseDTO> newAddressData){
+        boolean cepChanged = Objects.nonNull(data.cep()) && !data.cep().equals(event.getCep());
+        if (!cepChanged && Objects.nonNull(event.getLatitude())) {
+            if (Objects.nonNull(newAddressData)) newAddressData.cancel(true);
+            return null;
+        }
+        return Objects.nonNull(newAddressData) ? Futures.await(newAddressData) : this.getAddressInfo(event);
+    }
+
+    private Event applyUpdate(UUID id, UpdateEventDTO data, AwesomeApiResponseDTO addressData){
+        Event event = this.findById(id);
         this.validateEventUpdate(event, data);
         this.eventMapper.updateEntity(data, event);
-        if (!event.getCep().equals(data.cep())){
-            AwesomeApiResponseDTO addressData = this.getAddressInfo(event);
-            this.setAddressInfo(addressData, event);
+        if (Objects.nonNull(addressData)) setAddressInfo(addressData, event);
+        if (Objects.nonNull(data.capacity())){
+            if (this.eventRepository.updateCapacity(event.getId(), data.capacity()) == 0) {
+                throw new InvalidInputException("A capacidade não pode ser menor que o número de inscritos.");
+            }
+            event.setCapacity(data.capacity());
+            this.promoteFromWaitlist(event.getId());
         }
+        this.readYourWrites.recordWrite(id);
         return this.eventRepository.save(event);
     }
 
     @Transactional
     public void delete(UUID id, UUID ownerId, String ownerPin){
         Event event = this.findEventAndValidateOwner(id, ownerId, ownerPin);
+        this.eventRepository.removeAllParticipants(event.getId());
         this.eventRepository.deleteById(event.getId());
+        this.readYourWrites.recordWrite(id);
     }
 
-    public WeatherForecastApiResponseDTO getEventWeatherInfo(Event event){
-        AwesomeApiResponseDTO addressData = this.getAddressInfo(event);
-        Double latitude = addressData.lat();
-        Double longitude = addressData.lng();
-        return this.weatherForecastApiClient.weatherInfo(latitude, longitude);
+    public WeatherForecastSnapshotDTO getEventWeatherInfo(Event event){
+        CoordinatesDTO coordinates = this.getCoordinates(event);
+        return this.weatherForecastService.findForecast(coordinates.latitude(), coordinates.longitude());
+    }
+
+    public Optional<WeatherForecastSnapshotDTO> findCachedEventWeatherInfo(Event event){
+        if (Objects.isNull(event.getLatitude()) || Objects.isNull(event.getLongitude())) return Optional.empty();
+        return this.weatherForecastService.findCachedForecast(event.getLatitude(), event.getLongitude());
+    }
+
+    public CompletableFuture<WeatherForecastSnapshotDTO> getEventWeatherInfoAsync(Event event){
+        return Futures.supplyWithDeadline(() -> this.getEventWeatherInfo(event), this.upstreamExecutor,
+                this.upstreamTimeout);
+    }
+
+    public int prefetchUpcomingWeatherInfo(Duration window, double callsPerSecond){
+        LocalDateTime now = LocalDateTime.now();
+        List<CoordinatesDTO> coordinates = this.eventRepository.findCoordinatesByDateTimeBetween(now,
+                now.plus(window));
+        return this.weatherForecastService.refreshForecasts(coordinates, callsPerSecond);
+    }
+
+    public List<WeatherForecastSnapshotDTO> getEventsWeatherInfo(List<Event> events){
+        List<CoordinatesDTO> coordinates = events.stream().map(this::getCoordinates).toList();
+        return this.weatherForecastService.findForecasts(coordinates);
+    }
+
+    public List<Event> backfillCoordinates(UUID afterId, int batchSize){
+        List<Event> events = this.eventRepository.findByLatitudeIsNullAndIdGreaterThanOrderByIdAsc(afterId,
+                Limit.of(batchSize));
+        Map<UUID, AwesomeApiResponseDTO> addresses = new HashMap<>();
+        for (Event event : events){
+            try {
+                AwesomeApiResponseDTO addressData = this.getAddressInfo(event);
+                if (Objects.nonNull(addressData)) addresses.put(event.getId(), addressData);
+            } catch (RuntimeException ex) {
+                logger.warn("Não foi possível obter as coordenadas do evento {}: {}", event.getId(), ex.getMessage());
+            }
+        }
+        if (!addresses.isEmpty()) this.transactionOperations.executeWithoutResult(status ->
+                this.eventRepository.findAllById(addresses.keySet()).stream()
+                        .filter(event -> Objects.isNull(event.getLatitude()))
+                        .forEach(event -> setAddressInfo(addresses.get(event.getId()), event)));
+        return events;
     }
 
     @Transactional
-    public void registerParticipant(UUID eventId, UUID userId, String userPin){
+    public RegistrationStatus registerParticipant(UUID eventId, UUID userId, String userPin){
         Event event = this.findById(eventId);
-        User user = this.userService.findByIdAndValidate(userId, userPin);
-        this.validateEventRegistration(event, user);
-        event.getParticipants().add(user);
-        user.getParticipatingEvents().add(event);
-        this.eventRepository.save(event);
+        this.userService.validateCredentials(userId, userPin);
+        this.validateEventRegistration(event, userId);
+        this.readYourWrites.recordWrite(eventId, userId);
+        if (this.eventRepository.reserveSeat(event.getId()) == 0) {
+            this.eventRepository.findByIdForUpdate(event.getId());
+            this.waitlistRepository.enqueue(event.getId(), userId, LocalDateTime.now());
+            this.promoteFromWaitlist(event.getId());
+            return this.waitlistRepository.existsByEventIdAndUserId(event.getId(), userId)
+                    ? RegistrationStatus.WAITLISTED : RegistrationStatus.REGISTERED;
+        }
+        if (this.eventRepository.addParticipant(event.getId(), userId) == 0) {
+            throw new ForbiddenRegisterException("Usuário já inscrito no evento.");
+        }
+        return RegistrationStatus.REGISTERED;
     }
 
     @Transactional
     public void unregisterParticipant(UUID eventId, UUID userId, String userPin){
         Event event = this.findById(eventId);
-        User user = this.userService.findByIdAndValidate(userId, userPin);
-        this.validateEventUnregistration(event, user);
-        event.getParticipants().remove(user);
-        user.getParticipatingEvents().remove(event);
-        this.eventRepository.save(event);
+        this.userService.validateCredentials(userId, userPin);
+        this.readYourWrites.recordWrite(eventId, userId);
+        if (this.waitlistRepository.dequeue(event.getId(), userId) > 0) return;
+        this.validateEventUnregistration(event, userId);
+        this.eventRepository.releaseSeat(event.getId());
+        if (this.eventRepository.removeParticipant(event.getId(), userId) == 0) {
+            throw new ImpossibleUnregisterException("Usuário não está inscrito neste evento.");
+        }
+        this.promoteFromWaitlist(event.getId());
     }
 
-    public Set<User> findAllParticipants(UUID id){
-        Event event = this.findById(id);
-        return event.getParticipants();
+    @Transactional
+    public List<BulkParticipantResultDTO> registerParticipants(UUID id, UUID ownerId, String ownerPin,
+                                                               List<UUID> userIds){
+        Event event = this.findEventForUpdateAndValidateOwner(id, ownerId, ownerPin);
+        this.validateRegistrationWindow(event);
+        List<UUID> candidates = List.copyOf(new LinkedHashSet<>(userIds));
+        Set<UUID> existing = inChunks(candidates, this.userService::findExistingIds);
+        Set<UUID> participants = inChunks(candidates, ids -> this.eventRepository.findParticipantIdsIn(id, ids));
+        Set<UUID> waitlisted = inChunks(candidates, ids -> this.waitlistRepository.findUserIdsIn(id, ids));
+
+        int freeSeats = event.getCapacity() == null
+                ? Integer.MAX_VALUE : Math.max(0, event.getCapacity() - event.getParticipantsCount());
+        List<UUID> toRegister = new ArrayList<>();
+        List<UUID> toWaitlist = new ArrayList<>();
+        List<BulkParticipantResultDTO> results = new ArrayList<>(candidates.size());
+        for (UUID userId : candidates) {
+            BulkParticipantStatus status;
+            if (!existing.contains(userId)) {
+                status = BulkParticipantStatus.USER_NOT_FOUND;
+            } else if (participants.contains(userId)) {
+                status = BulkParticipantStatus.ALREADY_REGISTERED;
+            } else if (waitlisted.contains(userId)) {
+                status = BulkParticipantStatus.ALREADY_WAITLISTED;
+            } else if (toRegister.size() < freeSeats) {
+                toRegister.add(userId);
+                status = BulkParticipantStatus.REGISTERED;
+            } else {
+                toWaitlist.add(userId);
+                status = BulkParticipantStatus.WAITLISTED;
+            }
+            results.add(new BulkParticipantResultDTO(userId, status));
+        }
+
+        if (!toRegister.isEmpty()) {
+            this.eventRepository.addParticipants(id, toRegister);
+            this.eventRepository.adjustParticipantsCount(id, toRegister.size());
+        }
+        if (!toWaitlist.isEmpty()) this.waitlistRepository.enqueueAll(id, toWaitlist, LocalDateTime.now());
+        this.readYourWrites.recordWrite(id);
+        this.readYourWrites.recordWrites(toRegister);
+        return results;
+    }
+
+    @Transactional
+    public List<BulkParticipantResultDTO> unregisterParticipants(UUID id, UUID ownerId, String ownerPin,
+                                                                 List<UUID> userIds){
+        Event event = this.findEventForUpdateAndValidateOwner(id, ownerId, ownerPin);
+        this.validateUnregistrationWindow(event);
+        List<UUID> candidates = List.copyOf(new LinkedHashSet<>(userIds));
+        Set<UUID> participants = inChunks(candidates, ids -> this.eventRepository.findParticipantIdsIn(id, ids));
+        Set<UUID> waitlisted = inChunks(candidates, ids -> this.waitlistRepository.findUserIdsIn(id, ids));
+
+        List<UUID> toRemove = new ArrayList<>();
+        List<UUID> toDequeue = new ArrayList<>();
+        List<BulkParticipantResultDTO> results = new ArrayList<>(candidates.size());
+        for (UUID userId : candidates) {
+            BulkParticipantStatus status = BulkParticipantStatus.REMOVED;
+            if (participants.contains(userId)) {
+                toRemove.add(userId);
+            } else if (waitlisted.contains(userId)) {
+                toDequeue.add(userId);
+            } else {
+                status = BulkParticipantStatus.NOT_REGISTERED;
+            }
+            results.add(new BulkParticipantResultDTO(userId, status));
+        }
+
+        if (!toDequeue.isEmpty()) this.waitlistRepository.dequeueAll(id, toDequeue);
+        if (!toRemove.isEmpty()) {
+            this.eventRepository.removeParticipants(id, toRemove);
+            this.eventRepository.adjustParticipantsCount(id, -toRemove.size());
+            if (event.getCapacity() != null) {
+                this.promoteFromWaitlist(id, event.getCapacity() - event.getParticipantsCount() + toRemove.size());
+            }
+        }
+        this.readYourWrites.recordWrite(id);
+        this.readYourWrites.recordWrites(toRemove);
+        return results;
+    }
+
+    @Transactional
+    public List<UUID> recountParticipants(UUID afterId, int batchSize){
+        List<UUID> ids = this.eventRepository.findIdsAfter(afterId, Limit.of(batchSize));
+        if (!ids.isEmpty()) this.eventRepository.recountParticipants(ids);
+        return ids;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ParticipantDTO> findParticipantPage(UUID id, ParticipantSort sort, String cursor, int limit){
+        validateLimit(limit);
+        try (ReadYourWrites.Scope ignored = this.readYourWrites.pinIfRecentlyWritten(id)) {
+            return this.findParticipantPageOf(id, sort, cursor, limit);
+        }
+    }
+
+    private CursorPageDTO<ParticipantDTO> findParticipantPageOf(UUID id, ParticipantSort sort, String cursor,
+                                                                int limit){
+        this.ensureEventExists(id);
+        Limit rows = Limit.of(limit + 1);
+        if (sort == ParticipantSort.REGISTERED_AT) {
+            CursorCodec.Cursor after = isFirstPage(cursor) ? null : CursorCodec.decode(cursor);
+            List<ParticipantDTO> participants = after == null
+                    ? this.eventRepository.findParticipantsOrderByRegisteredAt(id, rows)
+                    : this.eventRepository.findParticipantsOrderByRegisteredAtAfter(id, after.dateTime(),
+                            after.id(), rows);
+            return toPage(participants, limit, last -> CursorCodec.encode(last.registeredAt(), last.id()));
+        }
+        CursorCodec.NameCursor after = isFirstPage(cursor) ? null : CursorCodec.decodeName(cursor);
+        List<ParticipantDTO> participants = after == null
+                ? this.eventRepository.findParticipantsOrderByName(id, rows)
+                : this.eventRepository.findParticipantsOrderByNameAfter(id, after.name(), after.id(), rows);
+        return toPage(participants, limit, last -> CursorCodec.encode(last.name(), last.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public void streamParticipants(UUID id, ParticipantSort sort, Consumer<? super ParticipantDTO> consumer){
+        try (ReadYourWrites.Scope ignored = this.readYourWrites.pinIfRecentlyWritten(id);
+             Stream<ParticipantDTO> participants = sort == ParticipantSort.REGISTERED_AT
+                ? this.eventRepository.streamParticipantsOrderByRegisteredAt(id)
+                : this.eventRepository.streamParticipantsOrderByName(id)) {
+            participants.forEach(consumer);
+        }
+    }
+
+    public void ensureEventExists(UUID id){
+        if (!this.eventRepository.existsById(id)) throw new ObjectNotFoundException("Evento não encontrado.", id);
     }
 
     private Event findEventAndValidateOwner(UUID id, UUID ownerId, String ownerPin){
         Event event = this.findById(id);
-        this.userService.findByIdAndValidate(ownerId, ownerPin);
+        this.validateOwner(event, ownerId, ownerPin);
+        return event;
+    }
+
+    private Event findEventForUpdateAndValidateOwner(UUID id, UUID ownerId, String ownerPin){
+        Event event = this.eventRepository.findByIdForUpdate(id).orElseThrow(() ->
+                new ObjectNotFoundException("Evento não encontrado.", id));
+        this.validateOwner(event, ownerId, ownerPin);
+        return event;
+    }
+
+    private void validateOwner(Event event, UUID ownerId, String ownerPin){
+        this.userService.validateCredentials(ownerId, ownerPin);
         if (!event.getOwnerId().equals(ownerId)) throw new AccessDeniedException(
                 "Acesso negado: o usuário informado não é o dono do evento.");
-        return event;
+    }
+
+    private static Set<UUID> inChunks(List<UUID> ids, Function<List<UUID>, List<UUID>> query){
+        Set<UUID> found = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            found.addAll(query.apply(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()))));
+        }
+        return found;
     }
 
     private void validateEventUpdate(Event event, UpdateEventDTO data) {
@@ -140,10 +475,39 @@ public class EventService {
         }
     }
 
-    private void validateEventRegistration(Event event, User user) {
-        if (event.getParticipants().contains(user)){
+    private void promoteFromWaitlist(UUID eventId){
+        Optional<WaitlistEntry> next = this.waitlistRepository.findFirstByEventIdOrderByCreatedAtAscIdAsc(eventId);
+        while (next.isPresent() && this.eventRepository.reserveSeat(eventId) == 1) {
+            WaitlistEntry entry = next.get();
+            if (this.waitlistRepository.claim(entry.getId()) == 0
+                    || this.eventRepository.addParticipant(eventId, entry.getUser().getId()) == 0) {
+                this.eventRepository.releaseSeat(eventId);
+            }
+            next = this.waitlistRepository.findFirstByEventIdOrderByCreatedAtAscIdAsc(eventId);
+        }
+    }
+
+    private void promoteFromWaitlist(UUID eventId, int freeSeats){
+        if (freeSeats <= 0) return;
+        List<WaitlistEntry> next = this.waitlistRepository.findByEventIdOrderByCreatedAtAscIdAsc(eventId,
+                Limit.of(freeSeats));
+        if (next.isEmpty()) return;
+        this.waitlistRepository.deleteAllByIdInBatch(next.stream().map(WaitlistEntry::getId).toList());
+        this.eventRepository.addParticipants(eventId, next.stream().map(entry -> entry.getUser().getId()).toList());
+        this.eventRepository.adjustParticipantsCount(eventId, next.size());
+    }
+
+    private void validateEventRegistration(Event event, UUID userId) {
+        if (this.eventRepository.isParticipant(event.getId(), userId)){
             throw new ForbiddenRegisterException("Usuário já inscrito no evento.");
         }
+        if (this.waitlistRepository.existsByEventIdAndUserId(event.getId(), userId)){
+            throw new ForbiddenRegisterException("Usuário já está na lista de espera do evento.");
+        }
+        this.validateRegistrationWindow(event);
+    }
+
+    private void validateRegistrationWindow(Event event){
         LocalDateTime now = LocalDateTime.now();
         if (now.isAfter(event.getDateTime())) {
             throw new ForbiddenRegisterException("Inscrição para o evento proibida: o evento já aconteceu.");
@@ -153,10 +517,14 @@ public class EventService {
         }
     }
 
-    private void validateEventUnregistration(Event event, User user){
-        if (!event.getParticipants().contains(user)){
+    private void validateEventUnregistration(Event event, UUID userId){
+        if (!this.eventRepository.isParticipant(event.getId(), userId)){
             throw new ImpossibleUnregisterException("Usuário não está inscrito neste evento.");
         }
+        this.validateUnregistrationWindow(event);
+    }
+
+    private void validateUnregistrationWindow(Event event){
         LocalDateTime now = LocalDateTime.now();
         if (now.isAfter(event.getDateTime())){
             throw new ImpossibleUnregisterException("Não é possível cancelar a inscrição: o evento já passou.");
@@ -167,15 +535,29 @@ public class EventService {
         }
     }
 
+    private CoordinatesDTO getCoordinates(Event event){
+        if (Objects.nonNull(event.getLatitude()) && Objects.nonNull(event.getLongitude())){
+            return new CoordinatesDTO(event.getLatitude(), event.getLongitude());
+        }
+        AwesomeApiResponseDTO addressData = this.getAddressInfo(event);
+        return new CoordinatesDTO(addressData.lat(), addressData.lng());
+    }
+
     private AwesomeApiResponseDTO getAddressInfo(Event event){
-        String eventCep = event.getCep().replace("-", "");
-        return this.awesomeApiClient.addressInfo(eventCep);
+        return this.geocodingService.findAddress(event.getCep());
+    }
+
+    private CompletableFuture<AwesomeApiResponseDTO> getAddressInfoAsync(String cep){
+        return Futures.supplyWithDeadline(() -> this.geocodingService.findAddress(cep), this.upstreamExecutor,
+                this.upstreamTimeout);
     }
 
-    private void setAddressInfo(AwesomeApiResponseDTO addressData, Event event){
+    static void setAddressInfo(AwesomeApiResponseDTO addressData, Event event){
         event.setAddress(addressData.address());
         event.setCity(addressData.city());
         event.setState(addressData.state());
         event.setDistrict(addressData.district());
+        event.setLatitude(addressData.lat());
+        event.setLongitude(addressData.lng());
     }
 }
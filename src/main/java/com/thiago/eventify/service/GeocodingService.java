@@ -0,0 +1,120 @@
+package com.thiago.eventify.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thiago.eventify.client.dto.AwesomeApiResponseDTO;
+import com.thiago.eventify.client.service.AwesomeApiClient;
+import com.thiago.eventify.entity.CepAddress;
+import com.thiago.eventify.repository.CepAddressRepository;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Service
+public class GeocodingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeocodingService.class);
+
+    private final AwesomeApiClient awesomeApiClient;
+    private final CepAddressRepository cepAddressRepository;
+    private final Cache<String, AwesomeApiResponseDTO> cache;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Counter databaseHits;
+    private final Counter databaseMisses;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Executor upstreamExecutor;
+    private final Duration maxAge;
+
+    public GeocodingService(AwesomeApiClient awesomeApiClient, CepAddressRepository cepAddressRepository,
+                            MeterRegistry meterRegistry, CircuitBreakerRegistry circuitBreakerRegistry,
+                            BulkheadRegistry bulkheadRegistry,
+                            @Qualifier("upstreamExecutor") Executor upstreamExecutor,
+                            @Value("${eventify.cep-cache.maximum-size:5000}") long maximumSize,
+                            @Value("${eventify.cep-cache.max-age:P30D}") Duration maxAge){
+        this.awesomeApiClient = awesomeApiClient;
+        this.cepAddressRepository = cepAddressRepository;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("awesomeApi");
+        this.bulkhead = bulkheadRegistry.bulkhead("awesomeApi");
+        this.upstreamExecutor = upstreamExecutor;
+        this.maxAge = maxAge;
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(maxAge).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "cep");
+        this.databaseHits = Counter.builder("eventify.cep.database.lookups").tag("result", "hit")
+                .register(meterRegistry);
+        this.databaseMisses = Counter.builder("eventify.cep.database.lookups").tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public AwesomeApiResponseDTO findAddress(String cep){
+        return this.cache.get(normalize(cep), this::loadAddress);
+    }
+
+    private AwesomeApiResponseDTO loadAddress(String cep){
+        return this.cepAddressRepository.findById(cep).map(stored -> {
+            this.databaseHits.increment();
+            if (stored.getFetchedAt().isBefore(LocalDateTime.now().minus(this.maxAge))) {
+                this.refreshInBackground(cep);
+            }
+            return toResponse(stored);
+        }).orElseGet(() -> {
+            this.databaseMisses.increment();
+            AwesomeApiResponseDTO addressData = this.fetchFromUpstream(cep);
+            this.cepAddressRepository.insertIfAbsent(cep, addressData.address(), addressData.district(),
+                    addressData.state(), addressData.city(), addressData.lat(), addressData.lng(),
+                    LocalDateTime.now());
+            return addressData;
+        });
+    }
+
+    private AwesomeApiResponseDTO fetchFromUpstream(String cep){
+        return CircuitBreaker.decorateSupplier(this.circuitBreaker,
+                Bulkhead.decorateSupplier(this.bulkhead, () -> this.awesomeApiClient.addressInfo(cep))).get();
+    }
+
+    private void refreshInBackground(String cep){
+        if (!this.refreshing.add(cep)) return;
+        try {
+            this.upstreamExecutor.execute(() -> {
+                try {
+                    AwesomeApiResponseDTO addressData = this.fetchFromUpstream(cep);
+                    this.cepAddressRepository.refresh(cep, addressData.address(), addressData.district(),
+                            addressData.state(), addressData.city(), addressData.lat(), addressData.lng(),
+                            LocalDateTime.now());
+                    this.cache.put(cep, addressData);
+                } catch (RuntimeException ex) {
+                    logger.warn("Falha ao revalidar o CEP {} em segundo plano: {}", cep, ex.getMessage());
+                } finally {
+                    this.refreshing.remove(cep);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            this.refreshing.remove(cep);
+        }
+    }
+
+    private static String normalize(String cep){
+        return cep.replace("-", "");
+    }
+
+    private static AwesomeApiResponseDTO toResponse(CepAddress stored){
+        return new AwesomeApiResponseDTO(stored.getAddress(), stored.getDistrict(), stored.getState(),
+                stored.getCity(), 200, stored.getLatitude(), stored.getLongitude());
+    }
+}
@@ -1,17 +1,30 @@
 package com.thiago.eventify.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thiago.eventify.datasource.ReadYourWrites;
 import com.thiago.eventify.dto.CreateUserDTO;
+import com.thiago.eventify.dto.EventDTO;
 import com.thiago.eventify.dto.UpdateUserDTO;
-import com.thiago.eventify.entity.Event;
 import com.thiago.eventify.entity.User;
 import com.thiago.eventify.exception.type.InvalidInputException;
 import com.thiago.eventify.mapper.UserMapper;
 import com.thiago.eventify.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.hibernate.ObjectNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -19,29 +32,61 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ReadYourWrites readYourWrites;
+    private final Cache<UUID, byte[]> verifiedCredentials;
 
-    public UserService(UserRepository userRepository, UserMapper userMapper){
+    public UserService(UserRepository userRepository, UserMapper userMapper, ReadYourWrites readYourWrites,
+                       MeterRegistry meterRegistry,
+                       @Value("${eventify.credentials-cache.maximum-size:10000}") long maximumSize,
+                       @Value("${eventify.credentials-cache.ttl:PT1M}") Duration ttl){
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.readYourWrites = readYourWrites;
+        this.verifiedCredentials = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl)
+                .recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.verifiedCredentials, "credentials");
     }
 
     public User findByIdAndValidate(UUID id, String pin){
-        User user = this.userRepository.findById(id).orElseThrow(() ->
-                new ObjectNotFoundException("Usuário não encontrado.", id));
-        if (!pin.equals(user.getPin())) throw new InvalidInputException("O PIN informado é inválido.");
-        return user;
+        try (ReadYourWrites.Scope ignored = this.readYourWrites.pinIfRecentlyWritten(id)) {
+            User user = this.userRepository.findById(id).orElseThrow(() ->
+                    new ObjectNotFoundException("Usuário não encontrado.", id));
+            if (!MessageDigest.isEqual(digest(pin), digest(user.getPin()))) {
+                throw new InvalidInputException("O PIN informado é inválido.");
+            }
+            return user;
+        }
+    }
+
+    public void validateCredentials(UUID id, String pin){
+        byte[] provided = digest(pin);
+        byte[] verified = this.verifiedCredentials.getIfPresent(id);
+        if (verified != null && MessageDigest.isEqual(verified, provided)) return;
+        String storedPin;
+        try (ReadYourWrites.Scope ignored = this.readYourWrites.pinIfRecentlyWritten(id)) {
+            storedPin = this.userRepository.findPinById(id).orElseThrow(() ->
+                    new ObjectNotFoundException("Usuário não encontrado.", id));
+        }
+        if (!MessageDigest.isEqual(digest(storedPin), provided)) {
+            throw new InvalidInputException("O PIN informado é inválido.");
+        }
+        this.verifiedCredentials.put(id, provided);
     }
 
     @Transactional
     public User create(CreateUserDTO data){
         User user = this.userMapper.toEntity(data);
-        return this.userRepository.save(user);
+        User saved = this.userRepository.save(user);
+        this.readYourWrites.recordWrite(saved.getId());
+        return saved;
     }
 
     @Transactional
     public User update(UUID id, String pin, UpdateUserDTO data){
         User user = this.findByIdAndValidate(id, pin);
         this.userMapper.updateEntity(data, user);
+        this.invalidateCredentials(id);
+        this.readYourWrites.recordWrite(id);
         return this.userRepository.save(user);
     }
 
@@ -49,10 +94,38 @@ public class UserService {
     public void delete(UUID id, String pin){
         User user = this.findByIdAndValidate(id, pin);
         this.userRepository.deleteById(user.getId());
+        this.invalidateCredentials(id);
+        this.readYourWrites.recordWrite(id);
     }
 
-    public Set<Event> findAllEvents (UUID id, String pin){
-        User user = this.findByIdAndValidate(id, pin);
-        return user.getParticipatingEvents();
+    @Transactional(readOnly = true)
+    public List<EventDTO> findAllEvents(UUID id, String pin){
+        try (ReadYourWrites.Scope ignored = this.readYourWrites.pinIfRecentlyWritten(id)) {
+            this.validateCredentials(id, pin);
+            return this.userRepository.findEventDTOsByParticipantId(id);
+        }
+    }
+
+    public List<UUID> findExistingIds(Collection<UUID> ids){
+        return this.userRepository.findExistingIds(ids);
+    }
+
+    private void invalidateCredentials(UUID id){
+        this.verifiedCredentials.invalidate(id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status){
+                UserService.this.verifiedCredentials.invalidate(id);
+            }
+        });
+    }
+
+    private static byte[] digest(String pin){
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(pin.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
     }
 }
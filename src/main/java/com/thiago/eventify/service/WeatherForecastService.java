@@ -0,0 +1,296 @@
+package com.thiago.eventify.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.thiago.eventify.client.dto.WeatherForecastApiResponseDTO;
+import com.thiago.eventify.client.service.WeatherForecastApiClient;
+import com.thiago.eventify.config.WeatherForecastProperties;
+import com.thiago.eventify.dto.CoordinatesDTO;
+import com.thiago.eventify.dto.WeatherForecastSnapshotDTO;
+import com.thiago.eventify.util.Futures;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+public class WeatherForecastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeatherForecastService.class);
+
+    private final WeatherForecastApiClient weatherForecastApiClient;
+    private final WeatherForecastProperties properties;
+    private final Cache<GridCell, CachedForecast> cache;
+    private final Set<GridCell> refreshing = ConcurrentHashMap.newKeySet();
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Executor upstreamExecutor;
+    private final Duration upstreamTimeout;
+    private final Clock clock;
+
+    @Autowired
+    public WeatherForecastService(WeatherForecastApiClient weatherForecastApiClient,
+                                  WeatherForecastProperties properties, MeterRegistry meterRegistry,
+                                  CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+                                  @Qualifier("upstreamExecutor") Executor upstreamExecutor,
+                                  @Value("${eventify.upstream.timeout:PT3S}") Duration upstreamTimeout){
+        this(weatherForecastApiClient, properties, meterRegistry, circuitBreakerRegistry, bulkheadRegistry,
+                upstreamExecutor, upstreamTimeout, Clock.systemUTC());
+    }
+
+    WeatherForecastService(WeatherForecastApiClient weatherForecastApiClient, WeatherForecastProperties properties,
+                           MeterRegistry meterRegistry, CircuitBreakerRegistry circuitBreakerRegistry,
+                           BulkheadRegistry bulkheadRegistry, Executor upstreamExecutor, Duration upstreamTimeout,
+                           Clock clock){
+        this.weatherForecastApiClient = weatherForecastApiClient;
+        this.properties = properties;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("weatherApi");
+        this.bulkhead = bulkheadRegistry.bulkhead("weatherApi");
+        this.upstreamExecutor = upstreamExecutor;
+        this.upstreamTimeout = upstreamTimeout;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new UntilMaxStale())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "weather");
+    }
+
+    public WeatherForecastSnapshotDTO findForecast(Double latitude, Double longitude){
+        GridCell cell = this.toCell(latitude, longitude);
+        return this.toSnapshot(cell, this.cache.get(cell, this::loadForecast));
+    }
+
+    public Optional<WeatherForecastSnapshotDTO> findCachedForecast(Double latitude, Double longitude){
+        GridCell cell = this.toCell(latitude, longitude);
+        CachedForecast cached = this.cache.getIfPresent(cell);
+        return cached == null ? Optional.empty() : Optional.of(this.toSnapshot(cell, cached));
+    }
+
+    public List<WeatherForecastSnapshotDTO> findForecasts(List<CoordinatesDTO> coordinates){
+        List<GridCell> cells = coordinates.stream()
+                .map(coordinate -> this.toCell(coordinate.latitude(), coordinate.longitude()))
+                .toList();
+        Map<GridCell, CachedForecast> forecasts = new HashMap<>(this.cache.getAllPresent(cells));
+        List<GridCell> missingCells = cells.stream().distinct().filter(cell -> !forecasts.containsKey(cell)).toList();
+        if (!missingCells.isEmpty()) forecasts.putAll(this.loadForecasts(missingCells));
+        return cells.stream().map(cell -> this.toSnapshot(cell, forecasts.get(cell))).toList();
+    }
+
+    public int refreshForecasts(List<CoordinatesDTO> coordinates, double callsPerSecond){
+        List<GridCell> cells = coordinates.stream()
+                .map(coordinate -> this.toCell(coordinate.latitude(), coordinate.longitude()))
+                .distinct()
+                .toList();
+        if (!(callsPerSecond > 0)) {
+            throw new IllegalArgumentException("A taxa de chamadas por segundo deve ser maior que zero.");
+        }
+        Pacer pacer = new Pacer((long) (TimeUnit.SECONDS.toNanos(1) / callsPerSecond));
+        int refreshed = 0;
+        for (int start = 0; start < cells.size(); start += this.properties.batchSize()) {
+            List<GridCell> batch = cells.subList(start, Math.min(start + this.properties.batchSize(), cells.size()));
+            try {
+                refreshed += this.loadBatch(batch, pacer::acquire).size();
+            } catch (RuntimeException ex) {
+                logger.warn("Falha ao atualizar previsões do tempo de {} localizações: {}", batch.size(),
+                        ex.getMessage());
+            }
+        }
+        return refreshed;
+    }
+
+    private WeatherForecastSnapshotDTO toSnapshot(GridCell cell, CachedForecast cached){
+        boolean stale = !this.clock.instant().isBefore(this.freshUntil(cached.fetchedAt()));
+        if (stale) this.refreshInBackground(cell);
+        return new WeatherForecastSnapshotDTO(cached.forecast(), cached.fetchedAt(), stale);
+    }
+
+    private void refreshInBackground(GridCell cell){
+        if (!this.refreshing.add(cell)) return;
+        try {
+            this.upstreamExecutor.execute(() -> {
+                try {
+                    this.cache.put(cell, this.loadForecast(cell));
+                } catch (RuntimeException ex) {
+                    logger.warn("Falha ao revalidar previsão do tempo em segundo plano: {}", ex.getMessage());
+                } finally {
+                    this.refreshing.remove(cell);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            this.refreshing.remove(cell);
+        }
+    }
+
+    private Map<GridCell, CachedForecast> loadForecasts(List<GridCell> cells){
+        Semaphore permits = new Semaphore(this.properties.batchParallelism());
+        List<CompletableFuture<Map<GridCell, CachedForecast>>> batches = new ArrayList<>();
+        try {
+            for (int start = 0; start < cells.size(); start += this.properties.batchSize()) {
+                List<GridCell> batch = cells.subList(start, Math.min(start + this.properties.batchSize(),
+                        cells.size()));
+                permits.acquire();
+                batches.add(Futures.supplyWithDeadline(() -> this.loadBatch(batch, () -> { }),
+                        this.upstreamExecutor, this.upstreamTimeout).whenComplete((result, ex) -> permits.release()));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Busca de previsões do tempo interrompida.", ex);
+        }
+        Map<GridCell, CachedForecast> forecasts = new HashMap<>();
+        batches.forEach(batch -> forecasts.putAll(Futures.await(batch)));
+        return forecasts;
+    }
+
+    private Map<GridCell, CachedForecast> loadBatch(List<GridCell> batch, Runnable beforeCall){
+        beforeCall.run();
+        if (batch.size() == 1) {
+            GridCell cell = batch.get(0);
+            CachedForecast forecast = this.loadForecast(cell);
+            this.cache.put(cell, forecast);
+            return Map.of(cell, forecast);
+        }
+        String latitudes = batch.stream().map(cell -> String.valueOf(this.centerOf(cell.latitudeIndex())))
+                .collect(Collectors.joining(","));
+        String longitudes = batch.stream().map(cell -> String.valueOf(this.centerOf(cell.longitudeIndex())))
+                .collect(Collectors.joining(","));
+        List<WeatherForecastApiResponseDTO> response = this.callUpstream(
+                () -> this.weatherForecastApiClient.weatherInfoBatch(latitudes, longitudes));
+        Instant fetchedAt = this.clock.instant();
+        boolean complete = response.size() == batch.size();
+        if (!complete) {
+            logger.warn("Resposta em lote da previsão do tempo com {} itens para {} coordenadas.", response.size(),
+                    batch.size());
+        }
+        Map<GridCell, CachedForecast> forecasts = new HashMap<>();
+        for (GridCell cell : batch) {
+            WeatherForecastApiResponseDTO match = complete ? this.closestTo(cell, response) : null;
+            CachedForecast forecast;
+            if (match != null) {
+                forecast = new CachedForecast(match, fetchedAt);
+            } else {
+                beforeCall.run();
+                forecast = this.loadForecast(cell);
+            }
+            this.cache.put(cell, forecast);
+            forecasts.put(cell, forecast);
+        }
+        return forecasts;
+    }
+
+    private WeatherForecastApiResponseDTO closestTo(GridCell cell, List<WeatherForecastApiResponseDTO> response){
+        double latitude = this.centerOf(cell.latitudeIndex());
+        double longitude = this.centerOf(cell.longitudeIndex());
+        WeatherForecastApiResponseDTO closest = null;
+        double closestDistance = this.properties.coordinateTolerance();
+        for (WeatherForecastApiResponseDTO entry : response) {
+            if (entry.latitude() == null || entry.longitude() == null) continue;
+            double distance = Math.max(Math.abs(entry.latitude() - latitude), Math.abs(entry.longitude() - longitude));
+            if (distance <= closestDistance) {
+                closest = entry;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    private CachedForecast loadForecast(GridCell cell){
+        WeatherForecastApiResponseDTO forecast = this.callUpstream(() -> this.weatherForecastApiClient.weatherInfo(
+                this.centerOf(cell.latitudeIndex()), this.centerOf(cell.longitudeIndex())));
+        return new CachedForecast(forecast, this.clock.instant());
+    }
+
+    private <T> T callUpstream(Supplier<T> call){
+        return CircuitBreaker.decorateSupplier(this.circuitBreaker, Bulkhead.decorateSupplier(this.bulkhead, call))
+                .get();
+    }
+
+    private GridCell toCell(double latitude, double longitude){
+        double gridSize = this.properties.gridSize();
+        return new GridCell((long) Math.floor(latitude / gridSize), (long) Math.floor(longitude / gridSize));
+    }
+
+    private double centerOf(long index){
+        return Math.round((index + 0.5) * this.properties.gridSize() * 10_000d) / 10_000d;
+    }
+
+    private Instant freshUntil(Instant fetchedAt){
+        long refreshIntervalMillis = this.properties.refreshInterval().toMillis();
+        long nextRefresh = (Math.floorDiv(fetchedAt.toEpochMilli(), refreshIntervalMillis) + 1) * refreshIntervalMillis;
+        return Instant.ofEpochMilli(nextRefresh).plus(this.properties.gracePeriod());
+    }
+
+    private static class Pacer {
+
+        private final long intervalNanos;
+        private long nextCallAt = System.nanoTime();
+
+        Pacer(long intervalNanos){
+            this.intervalNanos = intervalNanos;
+        }
+
+        void acquire(){
+            long waitNanos = this.nextCallAt - System.nanoTime();
+            if (waitNanos > 0) LockSupport.parkNanos(waitNanos);
+            this.nextCallAt = System.nanoTime() + this.intervalNanos;
+        }
+    }
+
+    private record GridCell(long latitudeIndex, long longitudeIndex) {
+    }
+
+    private record CachedForecast(WeatherForecastApiResponseDTO forecast, Instant fetchedAt) {
+    }
+
+    private class UntilMaxStale implements Expiry<GridCell, CachedForecast> {
+
+        @Override
+        public long expireAfterCreate(GridCell key, CachedForecast value, long currentTime){
+            return nanosUntilExpiration(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(GridCell key, CachedForecast value, long currentTime, long currentDuration){
+            return nanosUntilExpiration(value);
+        }
+
+        @Override
+        public long expireAfterRead(GridCell key, CachedForecast value, long currentTime, long currentDuration){
+            return currentDuration;
+        }
+
+        private long nanosUntilExpiration(CachedForecast value){
+            Instant expiresAt = freshUntil(value.fetchedAt()).plus(properties.maxStale());
+            return Math.max(0, Duration.between(clock.instant(), expiresAt).toNanos());
+        }
+    }
+}
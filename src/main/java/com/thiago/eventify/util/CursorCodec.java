@@ -0,0 +1,53 @@
+package com.thiago.eventify.util;
+
+import com.thiago.eventify.exception.type.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec(){
+    }
+
+    public static String encode(LocalDateTime dateTime, UUID id){
+        String raw = dateTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String encode(String name, UUID id){
+        String raw = name + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor){
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new InvalidInputException("Cursor de paginação inválido.");
+        }
+    }
+
+    public static NameCursor decodeName(String cursor){
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new NameCursor(raw.substring(0, separator), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new InvalidInputException("Cursor de paginação inválido.");
+        }
+    }
+
+    public record Cursor(LocalDateTime dateTime, UUID id) {
+    }
+
+    public record NameCursor(String name, UUID id) {
+    }
+}
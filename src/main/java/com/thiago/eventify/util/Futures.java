@@ -0,0 +1,57 @@
+package com.thiago.eventify.util;
+
+import com.thiago.eventify.exception.type.UpstreamTimeoutException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+public final class Futures {
+
+    private Futures(){
+    }
+
+    public static <T> CompletableFuture<T> supplyWithDeadline(Supplier<T> supplier, Executor executor,
+                                                              Duration timeout){
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                result.complete(supplier.get());
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+            }
+        }, null);
+        executor.execute(task);
+        CompletableFuture<T> deadline = result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    throw unwrap(ex);
+                });
+        deadline.whenComplete((value, ex) -> {
+            if (Objects.nonNull(ex)) task.cancel(true);
+        });
+        return deadline;
+    }
+
+    public static <T> T await(CompletableFuture<T> future){
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            throw unwrap(ex);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable ex){
+        Throwable cause = ex instanceof CompletionException && Objects.nonNull(ex.getCause()) ? ex.getCause() : ex;
+        if (cause instanceof TimeoutException) {
+            return new UpstreamTimeoutException("Tempo limite excedido ao acessar serviço externo.");
+        }
+        if (cause instanceof RuntimeException runtimeException) return runtimeException;
+        return new CompletionException(cause);
+    }
+}
@@ -0,0 +1,36 @@
+package com.thiago.eventify.util;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class UuidV7 {
+
+    private static final SecureRandom random = new SecureRandom();
+    private static final UuidV7 instance = new UuidV7(Clock.systemUTC());
+
+    private final Clock clock;
+    private final AtomicLong lastTimestamp = new AtomicLong();
+
+    UuidV7(Clock clock){
+        this.clock = clock;
+    }
+
+    public static UUID randomUUID(){
+        return instance.next();
+    }
+
+    public static long timestamp(UUID uuid){
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    UUID next(){
+        // 48-bit milliseconds followed by a 12-bit counter, so ids created in the same millisecond stay ordered
+        long candidate = this.clock.millis() << 12;
+        long timestamp = this.lastTimestamp.updateAndGet(last -> Math.max(last + 1, candidate));
+        long mostSigBits = (timestamp >>> 12) << 16 | 0x7000L | (timestamp & 0xFFFL);
+        long leastSigBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
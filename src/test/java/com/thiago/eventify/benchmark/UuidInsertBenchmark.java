@@ -0,0 +1,102 @@
+package com.thiago.eventify.benchmark;
+
+import com.thiago.eventify.util.UuidV7;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Tag("benchmark")
+class UuidInsertBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(UuidInsertBenchmark.class);
+
+    @Test
+    void compareRandomAndTimeOrderedIds() throws Exception {
+        String url = System.getProperty("benchmark.db.url");
+        assumeTrue(url != null, "Defina benchmark.db.url para executar o benchmark.");
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+        int batchSize = Integer.getInteger("benchmark.batch-size", 1000);
+
+        try (Connection connection = DriverManager.getConnection(url, System.getProperty("benchmark.db.username"),
+                System.getProperty("benchmark.db.password"))) {
+            connection.setAutoCommit(false);
+            Result random = this.insert(connection, "bench_uuid_v4", rows, batchSize, UUID::randomUUID);
+            Result timeOrdered = this.insert(connection, "bench_uuid_v7", rows, batchSize, UuidV7::randomUUID);
+
+            String output = String.format("%-8s %10s %12s %14s%n", "ids", "rows", "rows/s", "index MB") +
+                    random.format("UUIDv4") + timeOrdered.format("UUIDv7");
+            Path reportFile = Path.of("target", "benchmark", "uuid-insert.txt");
+            Files.createDirectories(reportFile.getParent());
+            Files.writeString(reportFile, output);
+            logger.info("Resultado do benchmark de UUID:{}{}", System.lineSeparator(), output);
+
+            assertTrue(random.indexBytes() > 0 && timeOrdered.indexBytes() > 0);
+        }
+    }
+
+    private Result insert(Connection connection, String table, int rows, int batchSize, Supplier<UUID> ids)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, created_at timestamp NOT NULL)");
+        }
+        connection.commit();
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, created_at) VALUES (?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, ids.get());
+                insert.setTimestamp(2, createdAt);
+                insert.addBatch();
+                if (i % batchSize == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        long indexBytes;
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            result.next();
+            indexBytes = result.getLong(1);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+        return new Result(rows, elapsed, indexBytes);
+    }
+
+    private record Result(int rows, Duration elapsed, long indexBytes) {
+
+        String format(String label){
+            double seconds = Math.max(this.elapsed.toMillis() / 1000.0, 0.001);
+            return String.format("%-8s %10d %12.0f %14.1f%n", label, this.rows, this.rows / seconds,
+                    this.indexBytes / (1024.0 * 1024.0));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.thiago.eventify.cache;
+
+import com.thiago.eventify.dto.UpdateEventDTO;
+import com.thiago.eventify.entity.Event;
+import com.thiago.eventify.entity.User;
+import com.thiago.eventify.repository.EventRepository;
+import com.thiago.eventify.repository.UserRepository;
+import com.thiago.eventify.service.EventService;
+import com.thiago.eventify.service.GeocodingService;
+import com.thiago.eventify.service.WeatherForecastService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("integration")
+@SpringBootTest
+class EventCacheTest {
+
+    private static final String PIN = "1234";
+
+    @Autowired private EventService eventService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private GeocodingService geocodingService;
+    @MockitoBean private WeatherForecastService weatherForecastService;
+
+    private User attendee;
+    private Event joinedEvent;
+    private Event otherEvent;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp(){
+        attendee = this.userRepository.save(new User(null, "Usuário", "12345678901", "user@gmail.com", PIN));
+        List<Event> events = this.eventRepository.saveAll(List.of(
+                new Event(null, attendee.getId(), "Evento 1", "Descrição", LocalDateTime.now().plusDays(1),
+                        "01001-000", "Praça da Sé", "100", "São Paulo", "SP", "Sé"),
+                new Event(null, attendee.getId(), "Evento 2", "Descrição", LocalDateTime.now().plusDays(2),
+                        "01001-000", "Praça da Sé", "100", "São Paulo", "SP", "Sé")));
+        joinedEvent = events.get(0);
+        otherEvent = events.get(1);
+        cache = this.entityManagerFactory.getCache();
+        cache.evictAll();
+    }
+
+    @AfterEach
+    void tearDown(){
+        this.jdbcTemplate.update("DELETE FROM tb_event_waitlist");
+        this.jdbcTemplate.update("DELETE FROM tb_event_participants");
+        this.jdbcTemplate.update("DELETE FROM tb_events");
+        this.jdbcTemplate.update("DELETE FROM tb_users");
+        cache.evictAll();
+    }
+
+    @Test
+    @DisplayName("Registering a participant should keep unrelated events cached")
+    void registerParticipantKeepsOtherEventsCached(){
+        this.eventService.findById(joinedEvent.getId());
+        this.eventService.findById(otherEvent.getId());
+        assertTrue(cache.contains(Event.class, otherEvent.getId()));
+
+        this.eventService.registerParticipant(joinedEvent.getId(), attendee.getId(), PIN);
+
+        assertTrue(cache.contains(Event.class, otherEvent.getId()));
+        assertFalse(cache.contains(Event.class, joinedEvent.getId()));
+        assertEquals(1, this.eventService.findById(joinedEvent.getId()).getParticipantsCount());
+    }
+
+    @Test
+    @DisplayName("Unregistering a participant should keep unrelated events cached")
+    void unregisterParticipantKeepsOtherEventsCached(){
+        this.eventService.registerParticipant(joinedEvent.getId(), attendee.getId(), PIN);
+        this.eventService.findById(joinedEvent.getId());
+        this.eventService.findById(otherEvent.getId());
+
+        this.eventService.unregisterParticipant(joinedEvent.getId(), attendee.getId(), PIN);
+
+        assertTrue(cache.contains(Event.class, otherEvent.getId()));
+        assertFalse(cache.contains(Event.class, joinedEvent.getId()));
+        assertEquals(0, this.eventService.findById(joinedEvent.getId()).getParticipantsCount());
+    }
+
+    @Test
+    @DisplayName("Updating an event should cache the participants count committed since it was loaded")
+    void updateRereadsParticipantsCount(){
+        this.jdbcTemplate.update("UPDATE tb_events SET latitude = -23.55, longitude = -46.63 WHERE id = ?",
+                joinedEvent.getId());
+        this.eventService.findById(joinedEvent.getId());
+        this.jdbcTemplate.update("UPDATE tb_events SET participants_count = 1 WHERE id = ?", joinedEvent.getId());
+
+        this.eventService.update(joinedEvent.getId(), attendee.getId(), PIN,
+                new UpdateEventDTO("Evento renomeado", null, null, null, null, null));
+
+        assertTrue(cache.contains(Event.class, joinedEvent.getId()));
+        assertEquals(1, this.eventService.findById(joinedEvent.getId()).getParticipantsCount());
+    }
+}
@@ -0,0 +1,103 @@
+package com.thiago.eventify.client.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyDTOTest {
+
+    private static final String FORECAST_JSON = """
+            {"time":["2025-05-20","2025-05-21"],
+             "temperature_2m_max":[25.3,null],
+             "temperature_2m_min":[15.1,14.0],
+             "apparent_temperature_max":[26.0,24.5],
+             "apparent_temperature_min":[14.2,13.9],
+             "precipitation_probability_max":[10,null],
+             "wind_speed_10m_max":[12.4,9.8],
+             "wind_gusts_10m_max":[30.2,25.0],
+             "wind_direction_10m_dominant":[180,270],
+             "precipitation_hours":[0,3]}
+            """;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp(){
+        objectMapper = new ObjectMapper();
+    }
+
+    @Nested
+    class deserialize {
+
+        @Test
+        @DisplayName("Should read every series including missing values")
+        void shouldReadEverySeries() throws Exception {
+            DailyDTO output = objectMapper.readValue(FORECAST_JSON, DailyDTO.class);
+
+            assertEquals(2, output.days());
+            assertEquals(LocalDate.of(2025, 5, 21), output.date(1));
+            assertEquals(25.3, output.maxTemperature(0));
+            assertNull(output.maxTemperature(1));
+            assertEquals(10, output.maxPrecipitationProbability(0));
+            assertNull(output.maxPrecipitationProbability(1));
+            assertEquals(270, output.dominantWindDirection(1));
+            assertEquals(3, output.precipitationHours(1));
+        }
+
+        @Test
+        @DisplayName("Should truncate decimal values of integer series")
+        void shouldTruncateDecimalIntegers() throws Exception {
+            DailyDTO output = objectMapper.readValue("{\"time\":[\"2025-05-20\"],\"precipitation_hours\":[2.0]}",
+                    DailyDTO.class);
+
+            assertEquals(2, output.precipitationHours(0));
+            assertNull(output.maxTemperature(0));
+        }
+
+        @Test
+        @DisplayName("Should ignore unknown fields")
+        void shouldIgnoreUnknownFields() throws Exception {
+            DailyDTO output = objectMapper.readValue(
+                    "{\"time\":[\"2025-05-20\"],\"uv_index_max\":[5.5],\"units\":{\"time\":\"iso8601\"}}",
+                    DailyDTO.class);
+
+            assertEquals(1, output.days());
+        }
+    }
+
+    @Nested
+    class serialize {
+
+        @Test
+        @DisplayName("Should write the same JSON that was read")
+        void shouldRoundTrip() throws Exception {
+            DailyDTO daily = objectMapper.readValue(FORECAST_JSON, DailyDTO.class);
+
+            JsonNode output = objectMapper.readTree(objectMapper.writeValueAsString(daily));
+
+            assertEquals(objectMapper.readTree(FORECAST_JSON), output);
+        }
+
+        @Test
+        @DisplayName("Should write absent series as null")
+        void shouldWriteAbsentSeriesAsNull() throws Exception {
+            DailyDTO daily = new DailyDTO(List.of(LocalDate.of(2025, 5, 20)), Arrays.asList(20.5), null, null, null,
+                    null, null, null, null, null);
+
+            JsonNode output = objectMapper.readTree(objectMapper.writeValueAsString(daily));
+
+            assertEquals("2025-05-20", output.get("time").get(0).asText());
+            assertEquals(20.5, output.get("temperature_2m_max").get(0).asDouble());
+            assertTrue(output.get("precipitation_hours").isNull());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.thiago.eventify.concurrency;
+
+import com.thiago.eventify.dto.RegistrationStatus;
+import com.thiago.eventify.entity.Event;
+import com.thiago.eventify.entity.User;
+import com.thiago.eventify.repository.EventRepository;
+import com.thiago.eventify.repository.UserRepository;
+import com.thiago.eventify.service.EventService;
+import com.thiago.eventify.service.GeocodingService;
+import com.thiago.eventify.service.WeatherForecastService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("integration")
+@SpringBootTest
+class WaitlistConcurrencyTest {
+
+    private static final String PIN = "1234";
+    private static final int CAPACITY = 2;
+    private static final int ROUNDS = 20;
+
+    @Autowired private EventService eventService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private GeocodingService geocodingService;
+    @MockitoBean private WeatherForecastService weatherForecastService;
+
+    private List<User> users;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp(){
+        users = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            users.add(new User(null, "Usuário " + i, String.format("%011d", i), "user" + i + "@gmail.com", PIN));
+        }
+        users = this.userRepository.saveAll(users);
+        executor = Executors.newFixedThreadPool(users.size());
+    }
+
+    @AfterEach
+    void tearDown(){
+        executor.shutdownNow();
+        this.jdbcTemplate.update("DELETE FROM tb_event_waitlist");
+        this.jdbcTemplate.update("DELETE FROM tb_event_participants");
+        this.jdbcTemplate.update("DELETE FROM tb_events");
+        this.jdbcTemplate.update("DELETE FROM tb_users");
+    }
+
+    @Test
+    @DisplayName("Concurrent unregistrations and registrations on a full event should keep seats consistent")
+    void concurrentUnregisterAndRegister() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            UUID eventId = this.fullEvent(round);
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> calls = List.of(
+                    this.submit(start, () -> this.eventService.unregisterParticipant(eventId, id(0), PIN)),
+                    this.submit(start, () -> this.eventService.unregisterParticipant(eventId, id(1), PIN)),
+                    this.submit(start, () -> this.eventService.unregisterParticipant(eventId, id(2), PIN)),
+                    this.submit(start, () -> this.eventService.registerParticipant(eventId, id(4), PIN)),
+                    this.submit(start, () -> this.eventService.registerParticipant(eventId, id(5), PIN)));
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(30, TimeUnit.SECONDS);
+            }
+
+            int participants = this.count("SELECT COUNT(*) FROM tb_event_participants WHERE event_id = ?", eventId);
+            int waitlisted = this.count("SELECT COUNT(*) FROM tb_event_waitlist WHERE event_id = ?", eventId);
+            int counter = this.count("SELECT participants_count FROM tb_events WHERE id = ?", eventId);
+            assertEquals(participants, counter, "round " + round);
+            assertEquals(CAPACITY, participants, "round " + round);
+            assertEquals(1, waitlisted, "round " + round);
+        }
+    }
+
+    private UUID fullEvent(int round){
+        Event event = new Event(null, id(0), "Evento " + round, "Descrição", LocalDateTime.now().plusDays(1),
+                "01001-000", "Praça da Sé", "100", "São Paulo", "SP", "Sé");
+        event.setCapacity(CAPACITY);
+        UUID eventId = this.eventRepository.save(event).getId();
+        assertEquals(RegistrationStatus.REGISTERED, this.eventService.registerParticipant(eventId, id(0), PIN));
+        assertEquals(RegistrationStatus.REGISTERED, this.eventService.registerParticipant(eventId, id(1), PIN));
+        assertEquals(RegistrationStatus.WAITLISTED, this.eventService.registerParticipant(eventId, id(2), PIN));
+        assertEquals(RegistrationStatus.WAITLISTED, this.eventService.registerParticipant(eventId, id(3), PIN));
+        return eventId;
+    }
+
+    private Future<?> submit(CountDownLatch start, Runnable call){
+        return executor.submit(() -> {
+            start.await();
+            call.run();
+            return null;
+        });
+    }
+
+    private UUID id(int index){
+        return users.get(index).getId();
+    }
+
+    private int count(String sql, UUID eventId){
+        return this.jdbcTemplate.queryForObject(sql, Integer.class, eventId);
+    }
+}
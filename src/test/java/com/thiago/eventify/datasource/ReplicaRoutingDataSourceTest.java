@@ -0,0 +1,79 @@
+package com.thiago.eventify.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource dataSource;
+    private ReadYourWrites readYourWrites;
+
+    @BeforeEach
+    void setUp(){
+        dataSource = new ReplicaRoutingDataSource(mock(DataSource.class),
+                List.of(mock(HikariDataSource.class), mock(HikariDataSource.class)));
+        readYourWrites = new ReadYourWrites(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown(){
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should route read-write and non-transactional work to the primary")
+    void shouldRouteWritesToPrimary(){
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Should spread read-only transactions across the replicas")
+    void shouldRouteReadOnlyToReplicas(){
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Should keep reads of recently written ids on the primary")
+    void shouldPinRecentWritesToPrimary(){
+        UUID userId = UUID.randomUUID();
+        readYourWrites.recordWrite(userId);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (ReadYourWrites.Scope ignored = readYourWrites.pinIfRecentlyWritten(userId)) {
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+        }
+        try (ReadYourWrites.Scope ignored = readYourWrites.pinIfRecentlyWritten(UUID.randomUUID())) {
+            assertNotEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+        }
+        assertNotEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Should not pin anything when the read-your-writes window is disabled")
+    void shouldIgnoreWritesWhenWindowDisabled(){
+        ReadYourWrites disabled = new ReadYourWrites(Duration.ZERO);
+        UUID userId = UUID.randomUUID();
+        disabled.recordWrite(userId);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (ReadYourWrites.Scope ignored = disabled.pinIfRecentlyWritten(userId)) {
+            assertNotEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+        }
+    }
+}
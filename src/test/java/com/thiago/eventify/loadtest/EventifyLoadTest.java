@@ -0,0 +1,62 @@
+package com.thiago.eventify.loadtest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EventifyLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventifyLoadTest.class);
+
+    private static final UpstreamStubServer upstream = UpstreamStubServer.start(
+            Duration.parse(System.getProperty("loadtest.upstream.latency", "PT0.05S")),
+            Double.parseDouble(System.getProperty("loadtest.upstream.error-rate", "0.0")),
+            Integer.getInteger("loadtest.upstream.forecast-days", 14));
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry){
+        registry.add("eventify.client.awesome-api.url", upstream::baseUrl);
+        registry.add("eventify.client.weather-api.url", upstream::baseUrl);
+    }
+
+    @AfterAll
+    static void stopUpstream(){
+        upstream.close();
+    }
+
+    @Test
+    void runScenario() throws Exception {
+        LoadGenerator generator = new LoadGenerator("http://localhost:" + port,
+                Integer.getInteger("loadtest.concurrency", 16), Integer.getInteger("loadtest.distinct-ceps", 200));
+        generator.run(Duration.parse(System.getProperty("loadtest.warmup", "PT10S")));
+        LoadReport report = generator.run(Duration.parse(System.getProperty("loadtest.duration", "PT60S")));
+
+        String output = report.format() + String.format("Upstream calls: address=%d, forecast=%d%n",
+                upstream.addressRequests(), upstream.forecastRequests());
+        Path reportFile = Path.of("target", "loadtest", "report.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, output);
+        logger.info("Resultado do teste de carga:{}{}", System.lineSeparator(), output);
+
+        assertTrue(report.totalRequests() > 0);
+    }
+}
@@ -0,0 +1,161 @@
+package com.thiago.eventify.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoadGenerator {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String PIN = "1234";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final AtomicLong userSequence = new AtomicLong();
+    private final String baseUrl;
+    private final int concurrency;
+    private final int distinctCeps;
+
+    public LoadGenerator(String baseUrl, int concurrency, int distinctCeps){
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.distinctCeps = distinctCeps;
+    }
+
+    public LoadReport run(Duration duration) throws Exception {
+        LoadReport report = new LoadReport();
+        ExecutorService workers = Executors.newFixedThreadPool(this.concurrency);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < this.concurrency; i++) {
+                results.add(workers.submit(() -> {
+                    this.virtualUser(report, deadline);
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        report.finish(Duration.ofNanos(System.nanoTime() - start));
+        return report;
+    }
+
+    private void virtualUser(LoadReport report, long deadline) throws IOException, InterruptedException {
+        String userId = this.createUser(report);
+        if (userId == null) return;
+        int iteration = 0;
+        while (System.nanoTime() < deadline) {
+            String eventId = this.createEvent(report, userId);
+            if (eventId != null) {
+                this.send(report, "GET /event/{id}", this.get("/event/" + eventId));
+                this.send(report, "PUT /event/{id}/participant/{userId}",
+                        this.put("/event/" + eventId + "/participant/" + userId + "?userPin=" + PIN));
+                this.send(report, "GET /event/{id}/participants", this.get("/event/" + eventId + "/participants"));
+            }
+            this.send(report, "GET /user/{id}/events", this.get("/user/" + userId + "/events?pin=" + PIN));
+            this.send(report, "GET /user/{id}", this.get("/user/" + userId + "?pin=" + PIN));
+            if (iteration++ % 10 == 0) {
+                this.send(report, "GET /event/all", this.get("/event/all"));
+            }
+        }
+    }
+
+    private String createUser(LoadReport report) throws IOException, InterruptedException {
+        long sequence = this.userSequence.incrementAndGet();
+        Map<String, String> body = Map.of(
+                "name", "Usuário " + sequence,
+                "cpf", cpf(sequence),
+                "email", "loadtest-" + sequence + "-" + System.nanoTime() + "@eventify.test",
+                "pin", PIN);
+        JsonNode created = this.send(report, "POST /user", this.post("/user", body));
+        return created == null ? null : created.get("id").asText();
+    }
+
+    private String createEvent(LoadReport report, String ownerId) throws IOException, InterruptedException {
+        int cep = ThreadLocalRandom.current().nextInt(this.distinctCeps);
+        Map<String, String> body = Map.of(
+                "title", "Evento de carga",
+                "description", "Evento criado pelo gerador de carga.",
+                "dateTime", LocalDateTime.now().plusDays(1 + cep % 13).format(DATE_TIME_FORMAT),
+                "cep", String.format("%05d-%03d", 10000 + cep, cep % 1000),
+                "addressNumber", "100");
+        JsonNode created = this.send(report, "POST /event", this.post("/event?ownerId=" + ownerId + "&ownerPin=" + PIN, body));
+        return created == null ? null : created.at("/event/id").asText(null);
+    }
+
+    private JsonNode send(LoadReport report, String operation, HttpRequest request)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = this.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException ex) {
+            report.record(operation, System.nanoTime() - start, false);
+            return null;
+        }
+        boolean success = response.statusCode() < 400;
+        report.record(operation, System.nanoTime() - start, success);
+        if (!success || response.body().isEmpty()) return null;
+        return this.objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest get(String path){
+        return HttpRequest.newBuilder(URI.create(this.baseUrl + path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest put(String path){
+        return HttpRequest.newBuilder(URI.create(this.baseUrl + path)).timeout(Duration.ofSeconds(30))
+                .PUT(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest post(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(this.baseUrl + path)).timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(this.objectMapper.writeValueAsString(body))).build();
+    }
+
+    static String cpf(long sequence){
+        int[] digits = new int[11];
+        String base = String.format("%09d", sequence % 1_000_000_000L);
+        for (int i = 0; i < 9; i++) {
+            digits[i] = base.charAt(i) - '0';
+        }
+        digits[9] = checkDigit(digits, 9);
+        digits[10] = checkDigit(digits, 10);
+        StringBuilder cpf = new StringBuilder();
+        for (int digit : digits) {
+            cpf.append(digit);
+        }
+        return cpf.toString();
+    }
+
+    private static int checkDigit(int[] digits, int length){
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += digits[i] * (length + 1 - i);
+        }
+        int remainder = (sum * 10) % 11;
+        return remainder == 10 ? 0 : remainder;
+    }
+}
@@ -0,0 +1,82 @@
+package com.thiago.eventify.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoadReport {
+
+    private final Map<String, Samples> samplesByOperation = new ConcurrentHashMap<>();
+    private Duration elapsed = Duration.ZERO;
+
+    public void record(String operation, long latencyNanos, boolean success){
+        Samples samples = this.samplesByOperation.computeIfAbsent(operation, key -> new Samples());
+        samples.add(latencyNanos);
+        if (!success) samples.errors.increment();
+    }
+
+    void finish(Duration elapsed){
+        this.elapsed = elapsed;
+    }
+
+    public long totalRequests(){
+        return this.samplesByOperation.values().stream().mapToLong(Samples::count).sum();
+    }
+
+    public long totalErrors(){
+        return this.samplesByOperation.values().stream().mapToLong(samples -> samples.errors.sum()).sum();
+    }
+
+    public double throughput(){
+        double seconds = this.elapsed.toMillis() / 1000.0;
+        return seconds == 0 ? 0 : this.totalRequests() / seconds;
+    }
+
+    public String format(){
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Duration: %ds, requests: %d, errors: %d, throughput: %.1f req/s%n",
+                this.elapsed.toSeconds(), this.totalRequests(), this.totalErrors(), this.throughput()));
+        builder.append(String.format("%-32s %8s %8s %10s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        double seconds = Math.max(this.elapsed.toMillis() / 1000.0, 0.001);
+        new TreeMap<>(this.samplesByOperation).forEach((operation, samples) -> {
+            long[] sorted = samples.sorted();
+            builder.append(String.format("%-32s %8d %8d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    operation, sorted.length, samples.errors.sum(), sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 1.0)));
+        });
+        return builder.toString();
+    }
+
+    static double percentile(long[] sorted, double quantile){
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private static class Samples {
+
+        private final List<Long> latencies = new ArrayList<>();
+        private final LongAdder errors = new LongAdder();
+
+        synchronized void add(long latencyNanos){
+            this.latencies.add(latencyNanos);
+        }
+
+        synchronized long count(){
+            return this.latencies.size();
+        }
+
+        synchronized long[] sorted(){
+            long[] values = this.latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(values);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.thiago.eventify.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UpstreamStubServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration latency;
+    private final double errorRate;
+    private final int forecastDays;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong addressRequests = new AtomicLong();
+    private final AtomicLong forecastRequests = new AtomicLong();
+
+    private UpstreamStubServer(Duration latency, double errorRate, int forecastDays) throws IOException {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.forecastDays = forecastDays;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.executor = Executors.newFixedThreadPool(64);
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/json/", this::handleAddress);
+        this.server.createContext("/v1/forecast", this::handleForecast);
+    }
+
+    public static UpstreamStubServer start(Duration latency, double errorRate, int forecastDays){
+        try {
+            UpstreamStubServer stub = new UpstreamStubServer(latency, errorRate, forecastDays);
+            stub.server.start();
+            return stub;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public String baseUrl(){
+        return "http://localhost:" + this.server.getAddress().getPort();
+    }
+
+    public long addressRequests(){
+        return this.addressRequests.get();
+    }
+
+    public long forecastRequests(){
+        return this.forecastRequests.get();
+    }
+
+    @Override
+    public void close(){
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    private void handleAddress(HttpExchange exchange) throws IOException {
+        this.addressRequests.incrementAndGet();
+        if (this.simulateLatencyAndFailure(exchange)) return;
+        String cep = exchange.getRequestURI().getPath().substring("/json/".length());
+        int seed = Math.abs(cep.hashCode());
+        ObjectNode body = this.objectMapper.createObjectNode();
+        body.put("address", "Rua " + cep);
+        body.put("district", "Bairro " + (seed % 50));
+        body.put("state", "SP");
+        body.put("city", "São Paulo");
+        body.put("status", 200);
+        body.put("lat", -23.0 - (seed % 200) / 100.0);
+        body.put("lng", -46.0 - (seed % 300) / 100.0);
+        this.respond(exchange, 200, body.toString());
+    }
+
+    private void handleForecast(HttpExchange exchange) throws IOException {
+        this.forecastRequests.incrementAndGet();
+        if (this.simulateLatencyAndFailure(exchange)) return;
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String[] latitudes = query.getOrDefault("latitude", "0").split(",");
+        String[] longitudes = query.getOrDefault("longitude", "0").split(",");
+        if (latitudes.length == 1) {
+            this.respond(exchange, 200, this.forecast(latitudes[0], longitudes[0]).toString());
+            return;
+        }
+        ArrayNode body = this.objectMapper.createArrayNode();
+        for (int i = 0; i < latitudes.length; i++) {
+            body.add(this.forecast(latitudes[i], longitudes[i]));
+        }
+        this.respond(exchange, 200, body.toString());
+    }
+
+    private ObjectNode forecast(String latitude, String longitude){
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ObjectNode daily = this.objectMapper.createObjectNode();
+        ArrayNode time = daily.putArray("time");
+        ArrayNode maxTemperature = daily.putArray("temperature_2m_max");
+        ArrayNode minTemperature = daily.putArray("temperature_2m_min");
+        ArrayNode apparentMax = daily.putArray("apparent_temperature_max");
+        ArrayNode apparentMin = daily.putArray("apparent_temperature_min");
+        ArrayNode precipitationProbability = daily.putArray("precipitation_probability_max");
+        ArrayNode windSpeed = daily.putArray("wind_speed_10m_max");
+        ArrayNode windGusts = daily.putArray("wind_gusts_10m_max");
+        ArrayNode windDirection = daily.putArray("wind_direction_10m_dominant");
+        ArrayNode precipitationHours = daily.putArray("precipitation_hours");
+        LocalDate today = LocalDate.now();
+        for (int day = 0; day < this.forecastDays; day++) {
+            double max = 20 + random.nextDouble(15);
+            double min = max - random.nextDouble(10);
+            time.add(today.plusDays(day).toString());
+            maxTemperature.add(max);
+            minTemperature.add(min);
+            apparentMax.add(max + 1);
+            apparentMin.add(min - 1);
+            precipitationProbability.add(random.nextInt(101));
+            windSpeed.add(random.nextDouble(40));
+            windGusts.add(random.nextDouble(70));
+            windDirection.add(random.nextInt(360));
+            precipitationHours.add(random.nextInt(25));
+        }
+        ObjectNode response = this.objectMapper.createObjectNode();
+        response.put("latitude", Double.parseDouble(latitude));
+        response.put("longitude", Double.parseDouble(longitude));
+        response.set("daily", daily);
+        return response;
+    }
+
+    private boolean simulateLatencyAndFailure(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(this.latency.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (ThreadLocalRandom.current().nextDouble() < this.errorRate) {
+            this.respond(exchange, 503, "{\"error\":\"simulated failure\"}");
+            return true;
+        }
+        return false;
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery){
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) return params;
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(pair.substring(0, separator),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+}
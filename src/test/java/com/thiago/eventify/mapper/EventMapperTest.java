@@ -6,12 +6,14 @@ import com.thiago.eventify.dto.CreateEventDTO;
 import com.thiago.eventify.dto.EventDTO;
 import com.thiago.eventify.dto.EventWithWeatherForecastDTO;
 import com.thiago.eventify.dto.UpdateEventDTO;
+import com.thiago.eventify.dto.WeatherForecastSnapshotDTO;
 import com.thiago.eventify.entity.Event;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -41,7 +43,8 @@ class EventMapperTest {
                     "Sunday BBQ with friends",
                     LocalDateTime.of(2025, 5, 20, 14, 0),
                     "123456-78",
-                    "123"
+                    "123",
+                    50
             );
 
             Event output = eventMapper.toEntity(data);
@@ -54,6 +57,7 @@ class EventMapperTest {
             assertEquals(data.dateTime(), output.getDateTime());
             assertEquals(data.cep(), output.getCep());
             assertEquals(data.addressNumber(), output.getAddressNumber());
+            assertEquals(data.capacity(), output.getCapacity());
         }
     }
 
@@ -68,7 +72,8 @@ class EventMapperTest {
                     "Updated description",
                     LocalDateTime.of(2025, 5, 25, 16, 0),
                     "876543-21",
-                    "456"
+                    "456",
+                    null
             );
             Event event = new Event(UUID.randomUUID(),UUID.randomUUID(), "Old Title", "Old Description",
                     LocalDateTime.of(2025, 4, 25, 15, 0), "123456-78",
@@ -86,7 +91,7 @@ class EventMapperTest {
         @Test
         @DisplayName("Should not update any field when all values are null")
         void shouldNotUpdateAnyField() {
-            UpdateEventDTO updateData = new UpdateEventDTO(null, null, null, null, null);
+            UpdateEventDTO updateData = new UpdateEventDTO(null, null, null, null, null, null);
             Event event = new Event(UUID.randomUUID(),UUID.randomUUID(), "Original Title", "Original description",
                     LocalDateTime.of(2025, 5, 20, 14, 0), "123456-78",
                     "Old Address","123", "Old City", "Old State", "Old District");
@@ -116,8 +121,9 @@ class EventMapperTest {
             DailyDTO weatherData = new DailyDTO(localDateList, doubleList, doubleList, doubleList, doubleList,
                     integerList, doubleList, doubleList, integerList, integerList);
             WeatherForecastApiResponseDTO weather = new WeatherForecastApiResponseDTO(weatherData);
+            WeatherForecastSnapshotDTO snapshot = new WeatherForecastSnapshotDTO(weather, Instant.now(), true);
 
-            EventWithWeatherForecastDTO output = eventMapper.toDTO(event, weather);
+            EventWithWeatherForecastDTO output = eventMapper.toDTO(event, snapshot);
 
             assertEquals(event.getId(), output.event().id());
             assertEquals(event.getTitle(), output.event().title());
@@ -130,6 +136,7 @@ class EventMapperTest {
             assertEquals(event.getState(), output.event().state());
             assertEquals(event.getDistrict(), output.event().district());
             assertEquals(weather.daily(), output.weatherForecast());
+            assertTrue(output.weatherForecastStale());
         }
     }
 
@@ -0,0 +1,141 @@
+package com.thiago.eventify.querycount;
+
+import com.thiago.eventify.entity.Event;
+import com.thiago.eventify.entity.User;
+import com.thiago.eventify.repository.EventRepository;
+import com.thiago.eventify.repository.UserRepository;
+import com.thiago.eventify.service.GeocodingService;
+import com.thiago.eventify.service.WeatherForecastService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("querycount")
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryCountTest {
+
+    private static final int ROWS = 50;
+    private static final String PIN = "1234";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private GeocodingService geocodingService;
+    @MockitoBean private WeatherForecastService weatherForecastService;
+
+    private User attendee;
+    private User newcomer;
+    private Event crowdedEvent;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < ROWS + 1; i++) {
+            users.add(new User(null, "Usuário " + i, String.format("%011d", i), "user" + i + "@gmail.com", PIN));
+        }
+        users = this.userRepository.saveAll(users);
+        attendee = users.get(0);
+        newcomer = users.get(ROWS);
+
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            events.add(new Event(null, attendee.getId(), "Evento " + i, "Descrição",
+                    LocalDateTime.now().plusDays(i + 1), "01001-000", "Praça da Sé", "100", "São Paulo", "SP", "Sé"));
+        }
+        events = this.eventRepository.saveAll(events);
+        crowdedEvent = events.get(0);
+
+        for (Event event : events) {
+            this.eventRepository.addParticipants(event.getId(), List.of(attendee.getId()));
+        }
+        this.eventRepository.addParticipants(crowdedEvent.getId(),
+                users.subList(1, ROWS).stream().map(User::getId).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.jdbcTemplate.update("DELETE FROM tb_event_waitlist");
+        this.jdbcTemplate.update("DELETE FROM tb_event_participants");
+        this.jdbcTemplate.update("DELETE FROM tb_events");
+        this.jdbcTemplate.update("DELETE FROM tb_users");
+    }
+
+    @Test
+    @DisplayName("Listing a user's events should not issue one query per event")
+    void userEvents() throws Throwable {
+        assertStatementsAtMost(2, () -> this.mockMvc.perform(get("/user/{id}/events", attendee.getId())
+                        .param("pin", PIN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS)));
+    }
+
+    @Test
+    @DisplayName("Listing an event's participants should not issue one query per participant")
+    void eventParticipants() throws Throwable {
+        assertStatementsAtMost(2, () -> this.mockMvc.perform(get("/event/{id}/participants", crowdedEvent.getId())
+                        .param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(ROWS)));
+    }
+
+    @Test
+    @DisplayName("Streaming an event's participants should use a single cursor query")
+    void streamEventParticipants() throws Throwable {
+        assertStatementsAtMost(2, () -> this.mockMvc.perform(get("/event/{id}/participants", crowdedEvent.getId())
+                        .param("stream", "true"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Listing events should run a single page query")
+    void eventPage() throws Throwable {
+        assertStatementsAtMost(1, () -> this.mockMvc.perform(get("/event/all").param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(20)));
+    }
+
+    @Test
+    @DisplayName("Exporting events should use a single cursor query")
+    void exportEvents() throws Throwable {
+        assertStatementsAtMost(1, () -> this.mockMvc.perform(get("/event/export"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Registering a participant should not load the participant collection")
+    void registerParticipant() throws Throwable {
+        assertStatementsAtMost(6, () -> this.mockMvc.perform(put("/event/{id}/participant/{userId}",
+                        crowdedEvent.getId(), newcomer.getId()).param("userPin", PIN))
+                .andExpect(status().isNoContent()));
+    }
+
+    private static void assertStatementsAtMost(int budget, Executable request) throws Throwable {
+        SqlStatementCounter.reset();
+        request.execute();
+        List<String> statements = SqlStatementCounter.statements();
+        assertTrue(statements.size() <= budget, () -> "Expected at most " + budget + " SQL statements but got " +
+                statements.size() + ":" + System.lineSeparator() + String.join(System.lineSeparator(), statements));
+    }
+}
@@ -0,0 +1,25 @@
+package com.thiago.eventify.querycount;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql){
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void reset(){
+        statements.clear();
+    }
+
+    public static List<String> statements(){
+        return List.copyOf(statements);
+    }
+}
@@ -0,0 +1,100 @@
+package com.thiago.eventify.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.thiago.eventify.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp(){
+        RateLimitProperties properties = new RateLimitProperties(true, Duration.ofMinutes(10), 1000, List.of(
+                new RateLimitProperties.Route(List.of(), "/user/{id}/**", "id", 5, 2, Duration.ofMinutes(1)),
+                new RateLimitProperties.Route(List.of("POST", "DELETE"), "/event/**", "ownerId", 3, 3,
+                        Duration.ofMinutes(1))));
+        filter = new RateLimitFilter(properties, new ObjectMapper().registerModule(new JavaTimeModule()),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should reject a user over the limit with 429 and Retry-After")
+    void shouldRejectUserOverLimit() throws Exception {
+        UUID userId = UUID.randomUUID();
+        assertEquals(200, perform("GET", "/user/" + userId, "10.0.0.1").getStatus());
+        assertEquals(200, perform("GET", "/user/" + userId + "/events", "10.0.0.2").getStatus());
+
+        MockHttpServletResponse rejected = perform("GET", "/user/" + userId, "10.0.0.3");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("30", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("Muitas requisições"));
+        assertEquals(200, perform("GET", "/user/" + UUID.randomUUID(), "10.0.0.3").getStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject a client IP over the limit regardless of the user")
+    void shouldRejectIpOverLimit() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, perform("POST", "/event", "10.0.0.9").getStatus());
+        }
+
+        assertEquals(429, perform("POST", "/event", "10.0.0.9").getStatus());
+        assertEquals(200, perform("POST", "/event", "10.0.0.10").getStatus());
+    }
+
+    @Test
+    @DisplayName("Should read the user id from the query string")
+    void shouldLimitByQueryParameter() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = request("DELETE", "/event/" + UUID.randomUUID(), "10.1.0." + i);
+            request.setParameter("ownerId", ownerId.toString());
+            assertEquals(200, execute(request).getStatus());
+        }
+        MockHttpServletRequest request = request("DELETE", "/event/" + UUID.randomUUID(), "10.1.0.9");
+        request.setParameter("ownerId", ownerId.toString());
+
+        assertEquals(429, execute(request).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should let requests of unmatched routes and methods through")
+    void shouldIgnoreUnmatchedRoutes() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, perform("GET", "/event/all", "10.0.0.20").getStatus());
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String ip) throws Exception {
+        return execute(request(method, uri, ip));
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String ip){
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
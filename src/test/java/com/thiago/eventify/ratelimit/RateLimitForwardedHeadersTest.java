@@ -0,0 +1,59 @@
+package com.thiago.eventify.ratelimit;
+
+import com.thiago.eventify.service.GeocodingService;
+import com.thiago.eventify.service.WeatherForecastService;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("integration")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eventify.rate-limit.routes[0].pattern=/user/{id}/**",
+        "eventify.rate-limit.routes[0].user-parameter=id",
+        "eventify.rate-limit.routes[0].ip-capacity=1",
+        "eventify.rate-limit.routes[0].user-capacity=10",
+        "eventify.rate-limit.routes[0].period=PT1H"
+})
+class RateLimitForwardedHeadersTest {
+
+    @Autowired private TestRestTemplate restTemplate;
+
+    @MockitoBean private GeocodingService geocodingService;
+    @MockitoBean private WeatherForecastService weatherForecastService;
+
+    @BeforeEach
+    void setUp(){
+        // The default client retries a 429 after sleeping for its Retry-After (one hour here)
+        this.restTemplate.getRestTemplate().setRequestFactory(new HttpComponentsClientHttpRequestFactory(
+                HttpClients.custom().disableAutomaticRetries().build()));
+    }
+
+    @Test
+    @DisplayName("Should key the IP limit on the client forwarded by a trusted proxy")
+    void shouldLimitForwardedClients(){
+        assertNotEquals(429, perform("203.0.113.1"));
+        assertEquals(429, perform("203.0.113.1"));
+        assertNotEquals(429, perform("203.0.113.2"));
+    }
+
+    private int perform(String forwardedFor){
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", forwardedFor);
+        return this.restTemplate.exchange("/user/{id}/events?pin=1234", HttpMethod.GET, new HttpEntity<>(headers),
+                String.class, UUID.randomUUID()).getStatusCode().value();
+    }
+}
@@ -0,0 +1,203 @@
+package com.thiago.eventify.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thiago.eventify.client.dto.AwesomeApiResponseDTO;
+import com.thiago.eventify.dto.EventImportErrorDTO;
+import com.thiago.eventify.dto.EventImportFormat;
+import com.thiago.eventify.dto.EventImportReportDTO;
+import com.thiago.eventify.entity.Event;
+import com.thiago.eventify.exception.type.InvalidInputException;
+import com.thiago.eventify.mapper.EventMapper;
+import com.thiago.eventify.repository.EventRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class EventImportServiceTest {
+
+    private static final String PIN = "1234";
+
+    @Mock private EventRepository eventRepository;
+    @Mock private UserService userService;
+    @Mock private GeocodingService geocodingService;
+
+    private EventImportService eventImportService;
+    private UUID ownerId;
+    private String dateTime;
+    private AwesomeApiResponseDTO address;
+
+    @BeforeEach
+    void setUp() {
+        eventImportService = new EventImportService(eventRepository, userService, new EventMapper(),
+                geocodingService, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().findAndRegisterModules(), Runnable::run, Duration.ofSeconds(5), 500, 4);
+        ownerId = UUID.randomUUID();
+        dateTime = LocalDateTime.now().plusDays(10).withNano(0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        address = new AwesomeApiResponseDTO("Praça da Sé", "Sé", "SP", "São Paulo", 200, -23.55, -46.63);
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Event> insertedEvents() {
+        ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventRepository).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    class importEvents {
+
+        @Test
+        @DisplayName("Should import valid CSV rows, geocoding each distinct CEP once")
+        void shouldImportCsv() throws Exception {
+            when(geocodingService.findAddress("01001-000")).thenReturn(address);
+            String csv = "title,description,dateTime,cep,addressNumber,capacity\n" +
+                    "Show,\"Show ao vivo, com convidados\"," + dateTime + ",01001-000,10,100\n" +
+                    "Palestra,Palestra aberta," + dateTime + ",01001-000,,\n" +
+                    "Feira,Feira de rua,amanhã,01001-000,,\n";
+
+            EventImportReportDTO report = eventImportService.importEvents(ownerId, PIN, EventImportFormat.CSV,
+                    input(csv));
+
+            assertEquals(new EventImportReportDTO(3, 2, 1, List.of(new EventImportErrorDTO(4,
+                    "Data do evento inválida. Use o formato yyyy-MM-ddTHH:mm:ss."))), report);
+            verify(userService).validateCredentials(ownerId, PIN);
+            verify(geocodingService, times(1)).findAddress("01001-000");
+            List<Event> events = insertedEvents();
+            assertEquals("Show ao vivo, com convidados", events.get(0).getDescription());
+            assertEquals(100, events.get(0).getCapacity());
+            assertEquals("São Paulo", events.get(1).getCity());
+            assertEquals(ownerId, events.get(1).getOwnerId());
+        }
+
+        @Test
+        @DisplayName("Should report invalid NDJSON rows and rows owned by someone else")
+        void shouldImportNdjson() throws Exception {
+            when(geocodingService.findAddress("01001-000")).thenReturn(address);
+            String ndjson = "{\"title\":\"Show\",\"description\":\"Show\",\"dateTime\":\"" + dateTime +
+                    "\",\"cep\":\"01001-000\"}\n" +
+                    "{not json}\n" +
+                    "\n" +
+                    "{\"ownerId\":\"" + UUID.randomUUID() + "\",\"title\":\"Show\",\"description\":\"Show\"," +
+                    "\"dateTime\":\"" + dateTime + "\",\"cep\":\"01001-000\"}\n" +
+                    "{\"title\":\"\",\"description\":\"Show\",\"dateTime\":\"" + dateTime + "\",\"cep\":\"123\"}\n";
+
+            EventImportReportDTO report = eventImportService.importEvents(ownerId, PIN, EventImportFormat.NDJSON,
+                    input(ndjson));
+
+            assertEquals(4, report.totalRows());
+            assertEquals(1, report.imported());
+            assertEquals(List.of(2L, 4L, 5L), report.errors().stream().map(EventImportErrorDTO::line).toList());
+            assertEquals("Linha com JSON inválido.", report.errors().get(0).message());
+            assertEquals(1, insertedEvents().size());
+        }
+
+        @Test
+        @DisplayName("Should report a null NDJSON row as an invalid line")
+        void shouldReportNullNdjsonRow() throws Exception {
+            EventImportReportDTO report = eventImportService.importEvents(ownerId, PIN, EventImportFormat.NDJSON,
+                    input("null\n"));
+
+            assertEquals(new EventImportReportDTO(1, 0, 1, List.of(new EventImportErrorDTO(1,
+                    "Linha com JSON inválido."))), report);
+            verify(eventRepository, never()).insertAll(any());
+        }
+
+        @Test
+        @DisplayName("Should fail only the rows whose CEP could not be geocoded")
+        void shouldReportGeocodingFailures() throws Exception {
+            when(geocodingService.findAddress("01001-000")).thenReturn(address);
+            when(geocodingService.findAddress("99999-999")).thenThrow(new RuntimeException("CEP não encontrado"));
+            String csv = "title,description,dateTime,cep\n" +
+                    "Show,Show," + dateTime + ",99999-999\n" +
+                    "Feira,Feira," + dateTime + ",01001-000\n";
+
+            EventImportReportDTO report = eventImportService.importEvents(ownerId, PIN, EventImportFormat.CSV,
+                    input(csv));
+
+            assertEquals(List.of(new EventImportErrorDTO(2,
+                    "Não foi possível obter o endereço do CEP 99999-999.")), report.errors());
+            assertEquals(1, insertedEvents().size());
+        }
+
+        @Test
+        @DisplayName("Should read a quoted CSV field spanning several lines as a single record")
+        void shouldImportMultiLineQuotedField() throws Exception {
+            when(geocodingService.findAddress("01001-000")).thenReturn(address);
+            String csv = "title,description,dateTime,cep\n" +
+                    "Show,\"Primeira linha,\nsegunda \"\"linha\"\"\n\"," + dateTime + ",01001-000\n" +
+                    "Feira,Feira de rua,amanhã,01001-000\n";
+
+            EventImportReportDTO report = eventImportService.importEvents(ownerId, PIN, EventImportFormat.CSV,
+                    input(csv));
+
+            assertEquals(new EventImportReportDTO(2, 1, 1, List.of(new EventImportErrorDTO(5,
+                    "Data do evento inválida. Use o formato yyyy-MM-ddTHH:mm:ss."))), report);
+            assertEquals("Primeira linha,\nsegunda \"linha\"", insertedEvents().get(0).getDescription());
+        }
+
+        @Test
+        @DisplayName("Should stop buffering an unterminated quoted field at the record limit")
+        void shouldRejectOversizedRecord() throws Exception {
+            when(geocodingService.findAddress("01001-000")).thenReturn(address);
+            String csv = "title,description,dateTime,cep\n" +
+                    "Show,\"sem fechamento\n" +
+                    "x".repeat(EventImportService.MAX_RECORD_LENGTH) + "\n" +
+                    "Feira,Feira de rua," + dateTime + ",01001-000\n";
+
+            EventImportReportDTO report = eventImportService.importEvents(ownerId, PIN, EventImportFormat.CSV,
+                    input(csv));
+
+            assertEquals(new EventImportReportDTO(2, 1, 1, List.of(new EventImportErrorDTO(2,
+                    "O registro excede o limite de " + EventImportService.MAX_RECORD_LENGTH + " caracteres."))),
+                    report);
+            assertEquals("Feira", insertedEvents().get(0).getTitle());
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidInputException when required CSV columns are missing")
+        void shouldRejectMissingColumns() {
+            assertThrows(InvalidInputException.class, () -> eventImportService.importEvents(ownerId, PIN,
+                    EventImportFormat.CSV, input("title,cep\nShow,01001-000\n")));
+            verify(eventRepository, never()).insertAll(any());
+        }
+    }
+
+    @Nested
+    class parseCsvLine {
+
+        @Test
+        @DisplayName("Should split quoted fields and unescape doubled quotes")
+        void shouldParseQuotedFields() {
+            assertEquals(List.of("a", "b, \"c\"", "", "d"), EventImportService.parseCsvLine("a,\"b, \"\"c\"\"\",,d"));
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidInputException for an unterminated quoted field")
+        void shouldRejectUnterminatedQuote() {
+            assertThrows(InvalidInputException.class, () -> EventImportService.parseCsvLine("a,\"b"));
+        }
+    }
+}
@@ -4,36 +4,51 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.thiago.eventify.client.dto.AwesomeApiResponseDTO;
-import com.thiago.eventify.client.service.AwesomeApiClient;
-import com.thiago.eventify.client.service.WeatherForecastApiClient;
+import com.thiago.eventify.client.dto.WeatherForecastApiResponseDTO;
+import com.thiago.eventify.datasource.ReadYourWrites;
 import com.thiago.eventify.dto.*;
 import com.thiago.eventify.entity.Event;
 import com.thiago.eventify.entity.User;
+import com.thiago.eventify.entity.WaitlistEntry;
+import com.thiago.eventify.exception.type.AccessDeniedException;
+import com.thiago.eventify.exception.type.ForbiddenRegisterException;
+import com.thiago.eventify.exception.type.ImpossibleUnregisterException;
+import com.thiago.eventify.exception.type.InvalidInputException;
 import com.thiago.eventify.mapper.EventMapper;
 import com.thiago.eventify.repository.EventRepository;
+import com.thiago.eventify.repository.WaitlistRepository;
+import com.thiago.eventify.util.CursorCodec;
 import org.hibernate.ObjectNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
 class EventServiceTest {
 
     @Mock private EventRepository eventRepository;
+    @Mock private WaitlistRepository waitlistRepository;
     @Mock private UserService userService;
     @Mock private EventMapper eventMapper;
-    @Mock private AwesomeApiClient awesomeApiClient;
-    @Mock private WeatherForecastApiClient weatherForecastApiClient;
+    @Mock private GeocodingService geocodingService;
+    @Mock private WeatherForecastService weatherForecastService;
 
-    @InjectMocks
     private EventService eventService;
 
     private UUID eventId;
@@ -43,6 +58,7 @@ class EventServiceTest {
 
     @BeforeEach
     void setUp() {
+        eventService = newEventService(TransactionOperations.withoutTransaction());
         eventId = UUID.randomUUID();
         userId = UUID.randomUUID();
         pin = "1234";
@@ -53,7 +69,26 @@ class EventServiceTest {
         event.setDescription("Sample Desc");
         event.setDateTime(LocalDateTime.now().plusDays(1));
         event.setCep("12345-678");
-        event.setParticipants(new HashSet<>());
+    }
+
+    private EventService newEventService(TransactionOperations transactionOperations) {
+        return new EventService(eventRepository, waitlistRepository, userService, eventMapper, geocodingService,
+                weatherForecastService, Runnable::run, Duration.ofSeconds(5), new ReadYourWrites(Duration.ZERO),
+                transactionOperations);
+    }
+
+    private static EventDTO toEventDTO(Event source) {
+        return new EventDTO(source.getId(), source.getTitle(), source.getDescription(), source.getDateTime(),
+                source.getCep(), source.getAddress(), source.getAddressNumber(), source.getCity(),
+                source.getState(), source.getDistrict(), source.getCapacity(), source.getParticipantsCount());
+    }
+
+    private WaitlistEntry waitlistEntry(Long id, User user) {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setId(id);
+        entry.setEvent(event);
+        entry.setUser(user);
+        return entry;
     }
 
     @Nested
@@ -79,18 +114,102 @@ class EventServiceTest {
     }
 
     @Nested
-    class findAll {
+    class findPage {
+
+        private final EventFilterDTO noFilter = new EventFilterDTO(null, null, null, null);
 
         @Test
-        @DisplayName("Should return all events")
-        void shouldReturnAllEvents() {
-            List<Event> events = List.of(event);
-            when(eventRepository.findAll()).thenReturn(events);
+        @DisplayName("Should return the last page without a next cursor")
+        void shouldReturnLastPage() {
+            EventDTO dto = toEventDTO(event);
+            when(eventRepository.findDTOPage(noFilter, null, 21)).thenReturn(List.of(dto));
+
+            CursorPageDTO<EventDTO> output = eventService.findPage(noFilter, null, 20);
 
-            List<Event> result = eventService.findAll();
+            assertEquals(List.of(dto), output.content());
+            assertNull(output.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should return a cursor pointing at the last event of a full entity page")
+        void shouldReturnNextCursor() {
+            Event second = new Event(UUID.randomUUID(), userId, "Other", "Desc", event.getDateTime().plusHours(1),
+                    "12345-678", "Street", "100", "City", "State", "District");
+            Event third = new Event(UUID.randomUUID(), userId, "Another", "Desc", event.getDateTime().plusHours(2),
+                    "12345-678", "Street", "100", "City", "State", "District");
+            doReturn(List.of(event, second, third)).when(eventRepository).findBy(any(Specification.class), any());
+
+            CursorPageDTO<Event> output = eventService.findEventPage(noFilter, null, 2);
+
+            assertEquals(List.of(event, second), output.content());
+            CursorCodec.Cursor cursor = CursorCodec.decode(output.nextCursor());
+            assertEquals(second.getDateTime(), cursor.dateTime());
+            assertEquals(second.getId(), cursor.id());
+        }
+
+        @Test
+        @DisplayName("Should seek past the decoded cursor")
+        void shouldSeekPastCursor() {
+            String cursor = CursorCodec.encode(event.getDateTime(), eventId);
+            when(eventRepository.findDTOPage(noFilter, new CursorCodec.Cursor(event.getDateTime(), eventId), 11))
+                    .thenReturn(List.of());
+
+            CursorPageDTO<EventDTO> output = eventService.findPage(noFilter, cursor, 10);
+
+            assertTrue(output.content().isEmpty());
+            assertNull(output.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should reject limits outside the allowed range")
+        void shouldRejectInvalidLimit() {
+            assertThrows(InvalidInputException.class, () -> eventService.findPage(noFilter, null, 0));
+            assertThrows(InvalidInputException.class, () -> eventService.findPage(noFilter, null, 101));
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject an inverted date range")
+        void shouldRejectInvertedRange() {
+            LocalDateTime now = LocalDateTime.now();
+            EventFilterDTO filter = new EventFilterDTO(null, null, now, now.minusDays(1));
 
-            assertEquals(1, result.size());
-            assertTrue(result.contains(event));
+            assertThrows(InvalidInputException.class, () -> eventService.findPage(filter, null, 20));
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThrows(InvalidInputException.class, () -> eventService.findPage(noFilter, "not-a-cursor", 20));
+        }
+    }
+
+    @Nested
+    class exportEvents {
+
+        @Test
+        @DisplayName("Should hand every streamed event to the consumer in order")
+        void shouldStreamEvents() {
+            EventFilterDTO filter = new EventFilterDTO("São Paulo", null, null, null);
+            EventDTO first = toEventDTO(event);
+            EventDTO second = new EventDTO(UUID.randomUUID(), "Other", "Other Desc", event.getDateTime().plusDays(1),
+                    event.getCep(), null, null, "São Paulo", "SP", null, null, 0);
+            when(eventRepository.streamDTOs(eq(filter), anyInt())).thenReturn(Stream.of(first, second));
+            List<EventDTO> received = new ArrayList<>();
+
+            eventService.exportEvents(filter, received::add);
+
+            assertEquals(List.of(first, second), received);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidInputException before streaming when the range is inverted")
+        void shouldRejectInvertedRange() {
+            LocalDateTime now = LocalDateTime.now();
+            EventFilterDTO filter = new EventFilterDTO(null, null, now.plusDays(1), now);
+
+            assertThrows(InvalidInputException.class, () -> eventService.exportEvents(filter, dto -> { }));
+            verify(eventRepository, never()).streamDTOs(any(), anyInt());
         }
     }
 
@@ -101,19 +220,32 @@ class EventServiceTest {
         @DisplayName("Should create event successfully")
         void shouldCreateEvent() {
             CreateEventDTO dto = new CreateEventDTO(userId, "Title", "Desc",
-                    LocalDateTime.now().plusDays(1), "12345-678", "100");
+                    LocalDateTime.now().plusDays(1), "12345-678", "100", null);
 
-            when(userService.findByIdAndValidate(userId, pin)).thenReturn(new User());
             when(eventMapper.toEntity(dto)).thenReturn(event);
-            when(awesomeApiClient.addressInfo(any())).thenReturn(new AwesomeApiResponseDTO("Address",
+            when(geocodingService.findAddress(any())).thenReturn(new AwesomeApiResponseDTO("Address",
                     "District", "State", "City", 200, 1.0, 1.0));
             when(eventRepository.save(any())).thenReturn(event);
 
-            Event output = eventService.create(dto, pin);
+            Event output = eventService.create(userId, pin, dto);
 
             assertNotNull(output);
+            assertEquals(userId, event.getOwnerId());
+            assertEquals(1.0, event.getLatitude());
+            assertEquals(1.0, event.getLongitude());
             verify(eventRepository).save(event);
         }
+
+        @Test
+        @DisplayName("Should reject a body owner different from the owner in the query")
+        void shouldRejectDifferentOwner() {
+            CreateEventDTO dto = new CreateEventDTO(UUID.randomUUID(), "Title", "Desc",
+                    LocalDateTime.now().plusDays(1), "12345-678", "100", null);
+
+            assertThrows(InvalidInputException.class, () -> eventService.create(userId, pin, dto));
+            verify(userService, never()).validateCredentials(any(), any());
+            verify(eventRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -123,12 +255,11 @@ class EventServiceTest {
         @DisplayName("Should update event successfully")
         void shouldUpdateEvent() {
             UpdateEventDTO data = new UpdateEventDTO("New Title", "New Desc",
-                    event.getDateTime().plusHours(5), "87654-321", "200");
+                    event.getDateTime().plusHours(5), "87654-321", "200", null);
 
             when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-            when(userService.findByIdAndValidate(userId, pin)).thenReturn(new User());
             doNothing().when(eventMapper).updateEntity(any(), any());
-            when(awesomeApiClient.addressInfo(any())).thenReturn(new AwesomeApiResponseDTO("Addr", "Dist",
+            when(geocodingService.findAddress(any())).thenReturn(new AwesomeApiResponseDTO("Addr", "Dist",
                     "St", "City", 200, 1.0, 1.0));
             when(eventRepository.save(any())).thenReturn(event);
 
@@ -138,6 +269,66 @@ class EventServiceTest {
             verify(eventMapper).updateEntity(data, event);
             verify(eventRepository).save(event);
         }
+
+        @Test
+        @DisplayName("Should resolve the new address before opening the transaction")
+        void shouldResolveAddressBeforeTransaction() {
+            UpdateEventDTO data = new UpdateEventDTO(null, null, null, "87654-321", null, null);
+            AtomicBoolean geocodedBeforeTransaction = new AtomicBoolean();
+            EventService service = newEventService(new TransactionOperations() {
+                @Override
+                public <T> T execute(TransactionCallback<T> action) {
+                    geocodedBeforeTransaction.set(!mockingDetails(geocodingService).getInvocations().isEmpty());
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                }
+            });
+
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(geocodingService.findAddress("87654-321")).thenReturn(new AwesomeApiResponseDTO("Addr", "Dist",
+                    "St", "City", 200, 1.0, 1.0));
+            when(eventRepository.save(any())).thenReturn(event);
+
+            service.update(eventId, userId, pin, data);
+
+            assertTrue(geocodedBeforeTransaction.get());
+            assertEquals(1.0, event.getLatitude());
+        }
+    }
+
+    @Nested
+    class backfillCoordinates {
+
+        @Test
+        @DisplayName("Should geocode outside the transaction and only fill events still without coordinates")
+        void shouldGeocodeBeforeTransaction() {
+            Event failing = new Event();
+            failing.setId(UUID.randomUUID());
+            failing.setCep("99999-999");
+            Event reloaded = new Event();
+            reloaded.setId(eventId);
+            AtomicBoolean geocodedBeforeTransaction = new AtomicBoolean();
+            EventService service = newEventService(new TransactionOperations() {
+                @Override
+                public <T> T execute(TransactionCallback<T> action) {
+                    geocodedBeforeTransaction.set(mockingDetails(geocodingService).getInvocations().size() == 2);
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                }
+            });
+
+            when(eventRepository.findByLatitudeIsNullAndIdGreaterThanOrderByIdAsc(any(), eq(Limit.of(2))))
+                    .thenReturn(List.of(event, failing));
+            when(geocodingService.findAddress("12345-678")).thenReturn(new AwesomeApiResponseDTO("Addr", "Dist",
+                    "St", "City", 200, 1.0, 1.0));
+            when(geocodingService.findAddress("99999-999")).thenThrow(new RuntimeException("CEP não encontrado"));
+            when(eventRepository.findAllById(Set.of(eventId))).thenReturn(List.of(reloaded));
+
+            List<Event> batch = service.backfillCoordinates(new UUID(0L, 0L), 2);
+
+            assertEquals(List.of(event, failing), batch);
+            assertTrue(geocodedBeforeTransaction.get());
+            assertEquals(1.0, reloaded.getLatitude());
+            assertEquals("City", reloaded.getCity());
+        }
     }
 
     @Nested
@@ -147,73 +338,453 @@ class EventServiceTest {
         @DisplayName("Should delete event successfully")
         void shouldDeleteEvent() {
             when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-            when(userService.findByIdAndValidate(userId, pin)).thenReturn(new User());
 
             eventService.delete(eventId, userId, pin);
 
+            verify(eventRepository).removeAllParticipants(eventId);
             verify(eventRepository).deleteById(eventId);
         }
     }
 
+    @Nested
+    class getEventWeatherInfo {
+
+        @Test
+        @DisplayName("Should use stored coordinates without geocoding the CEP")
+        void shouldUseStoredCoordinates() {
+            event.setLatitude(-23.5);
+            event.setLongitude(-46.6);
+            WeatherForecastSnapshotDTO weather = new WeatherForecastSnapshotDTO(
+                    new WeatherForecastApiResponseDTO(null), Instant.now(), false);
+            when(weatherForecastService.findForecast(-23.5, -46.6)).thenReturn(weather);
+
+            WeatherForecastSnapshotDTO output = eventService.getEventWeatherInfo(event);
+
+            assertEquals(weather, output);
+            verifyNoInteractions(geocodingService);
+        }
+
+        @Test
+        @DisplayName("Should geocode the CEP when coordinates are missing")
+        void shouldGeocodeWhenCoordinatesAreMissing() {
+            WeatherForecastSnapshotDTO weather = new WeatherForecastSnapshotDTO(
+                    new WeatherForecastApiResponseDTO(null), Instant.now(), false);
+            when(geocodingService.findAddress(event.getCep())).thenReturn(new AwesomeApiResponseDTO("Address",
+                    "District", "State", "City", 200, 1.0, 2.0));
+            when(weatherForecastService.findForecast(1.0, 2.0)).thenReturn(weather);
+
+            WeatherForecastSnapshotDTO output = eventService.getEventWeatherInfo(event);
+
+            assertEquals(weather, output);
+        }
+    }
+
     @Nested
     class registerParticipant {
 
+        private User user;
+
+        @BeforeEach
+        void setUp() {
+            user = new User();
+            user.setId(UUID.randomUUID());
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        }
+
         @Test
-        @DisplayName("Should register participant successfully")
+        @DisplayName("Should register participant when a seat is available")
         void shouldRegisterParticipant() {
-            User user = new User();
-            user.setId(UUID.randomUUID());
-            user.setParticipatingEvents(new HashSet<>());
+            when(eventRepository.isParticipant(eventId, user.getId())).thenReturn(false);
+            when(waitlistRepository.existsByEventIdAndUserId(eventId, user.getId())).thenReturn(false);
+            when(eventRepository.reserveSeat(eventId)).thenReturn(1);
+            when(eventRepository.addParticipant(eventId, user.getId())).thenReturn(1);
 
-            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-            when(userService.findByIdAndValidate(user.getId(), pin)).thenReturn(user);
-            when(eventRepository.save(event)).thenReturn(event);
+            RegistrationStatus output = eventService.registerParticipant(eventId, user.getId(), pin);
+
+            assertEquals(RegistrationStatus.REGISTERED, output);
+            verify(eventRepository).addParticipant(eventId, user.getId());
+            verify(eventRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should put the user on the waitlist when the event is full")
+        void shouldWaitlistWhenFull() {
+            when(eventRepository.isParticipant(eventId, user.getId())).thenReturn(false);
+            when(waitlistRepository.existsByEventIdAndUserId(eventId, user.getId())).thenReturn(false, true);
+            when(eventRepository.reserveSeat(eventId)).thenReturn(0);
+            when(waitlistRepository.findFirstByEventIdOrderByCreatedAtAscIdAsc(eventId))
+                    .thenReturn(Optional.of(waitlistEntry(1L, user)));
+
+            RegistrationStatus output = eventService.registerParticipant(eventId, user.getId(), pin);
+
+            assertEquals(RegistrationStatus.WAITLISTED, output);
+            verify(waitlistRepository).enqueue(eq(eventId), eq(user.getId()), any());
+            verify(waitlistRepository, never()).claim(any());
+            verify(eventRepository, never()).addParticipant(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should register a waitlisted user when a seat is freed right after enqueueing")
+        void shouldRecheckCapacityAfterEnqueueing() {
+            when(eventRepository.isParticipant(eventId, user.getId())).thenReturn(false);
+            when(waitlistRepository.existsByEventIdAndUserId(eventId, user.getId())).thenReturn(false, false);
+            when(eventRepository.reserveSeat(eventId)).thenReturn(0, 1);
+            when(waitlistRepository.findFirstByEventIdOrderByCreatedAtAscIdAsc(eventId))
+                    .thenReturn(Optional.of(waitlistEntry(1L, user)), Optional.empty());
+            when(waitlistRepository.claim(1L)).thenReturn(1);
+            when(eventRepository.addParticipant(eventId, user.getId())).thenReturn(1);
+
+            RegistrationStatus output = eventService.registerParticipant(eventId, user.getId(), pin);
+
+            assertEquals(RegistrationStatus.REGISTERED, output);
+            verify(eventRepository, never()).releaseSeat(any());
+        }
 
-            eventService.registerParticipant(eventId, user.getId(), pin);
+        @Test
+        @DisplayName("Should throw ForbiddenRegisterException if user is already registered")
+        void shouldThrowWhenAlreadyRegistered() {
+            when(eventRepository.isParticipant(eventId, user.getId())).thenReturn(true);
+
+            assertThrows(ForbiddenRegisterException.class,
+                    () -> eventService.registerParticipant(eventId, user.getId(), pin));
+            verify(eventRepository, never()).reserveSeat(any());
+        }
+
+        @Test
+        @DisplayName("Should throw ForbiddenRegisterException if user is already on the waitlist")
+        void shouldThrowWhenAlreadyWaitlisted() {
+            when(eventRepository.isParticipant(eventId, user.getId())).thenReturn(false);
+            when(waitlistRepository.existsByEventIdAndUserId(eventId, user.getId())).thenReturn(true);
+
+            assertThrows(ForbiddenRegisterException.class,
+                    () -> eventService.registerParticipant(eventId, user.getId(), pin));
+            verify(eventRepository, never()).reserveSeat(any());
+        }
 
-            assertTrue(event.getParticipants().contains(user));
-            assertTrue(user.getParticipatingEvents().contains(event));
+        @Test
+        @DisplayName("Should throw ForbiddenRegisterException if a concurrent registration wins")
+        void shouldThrowWhenConcurrentRegistrationWins() {
+            when(eventRepository.isParticipant(eventId, user.getId())).thenReturn(false);
+            when(waitlistRepository.existsByEventIdAndUserId(eventId, user.getId())).thenReturn(false);
+            when(eventRepository.reserveSeat(eventId)).thenReturn(1);
+            when(eventRepository.addParticipant(eventId, user.getId())).thenReturn(0);
+
+            assertThrows(ForbiddenRegisterException.class,
+                    () -> eventService.registerParticipant(eventId, user.getId(), pin));
         }
     }
 
     @Nested
     class unregisterParticipant {
 
+        private User user;
+
+        @BeforeEach
+        void setUp() {
+            user = new User();
+            user.setId(UUID.randomUUID());
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        }
+
         @Test
-        @DisplayName("Should unregister participant successfully")
+        @DisplayName("Should unregister participant and release the seat")
         void shouldUnregisterParticipant() {
-            User user = new User();
-            user.setId(UUID.randomUUID());
-            user.setParticipatingEvents(new HashSet<>(List.of(event)));
-            event.setParticipants(new HashSet<>(List.of(user)));
+            when(waitlistRepository.dequeue(eventId, user.getId())).thenReturn(0);
+            when(eventRepository.isParticipant(eventId, user.getId())).thenReturn(true);
+            when(eventRepository.removeParticipant(eventId, user.getId())).thenReturn(1);
+            when(waitlistRepository.findFirstByEventIdOrderByCreatedAtAscIdAsc(eventId))
+                    .thenReturn(Optional.empty());
 
-            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-            when(userService.findByIdAndValidate(user.getId(), pin)).thenReturn(user);
-            when(eventRepository.save(event)).thenReturn(event);
+            eventService.unregisterParticipant(eventId, user.getId(), pin);
+
+            verify(eventRepository).releaseSeat(eventId);
+            verify(eventRepository).removeParticipant(eventId, user.getId());
+            verify(eventRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should promote the oldest waitlisted user to the released seat")
+        void shouldPromoteFromWaitlist() {
+            User waiting = new User();
+            waiting.setId(UUID.randomUUID());
+            when(waitlistRepository.dequeue(eventId, user.getId())).thenReturn(0);
+            when(eventRepository.isParticipant(eventId, user.getId())).thenReturn(true);
+            when(eventRepository.removeParticipant(eventId, user.getId())).thenReturn(1);
+            when(waitlistRepository.findFirstByEventIdOrderByCreatedAtAscIdAsc(eventId))
+                    .thenReturn(Optional.of(waitlistEntry(1L, waiting)), Optional.empty());
+            when(eventRepository.reserveSeat(eventId)).thenReturn(1);
+            when(waitlistRepository.claim(1L)).thenReturn(1);
+            when(eventRepository.addParticipant(eventId, waiting.getId())).thenReturn(1);
 
             eventService.unregisterParticipant(eventId, user.getId(), pin);
 
-            assertFalse(event.getParticipants().contains(user));
-            assertFalse(user.getParticipatingEvents().contains(event));
+            verify(waitlistRepository).claim(1L);
+            verify(eventRepository).addParticipant(eventId, waiting.getId());
+            verify(eventRepository, times(1)).releaseSeat(eventId);
+        }
+
+        @Test
+        @DisplayName("Should skip a waitlist entry claimed by a concurrent promotion")
+        void shouldSkipEntryClaimedConcurrently() {
+            User claimed = new User();
+            claimed.setId(UUID.randomUUID());
+            User waiting = new User();
+            waiting.setId(UUID.randomUUID());
+            when(waitlistRepository.dequeue(eventId, user.getId())).thenReturn(0);
+            when(eventRepository.isParticipant(eventId, user.getId())).thenReturn(true);
+            when(eventRepository.removeParticipant(eventId, user.getId())).thenReturn(1);
+            when(waitlistRepository.findFirstByEventIdOrderByCreatedAtAscIdAsc(eventId))
+                    .thenReturn(Optional.of(waitlistEntry(1L, claimed)), Optional.of(waitlistEntry(2L, waiting)),
+                            Optional.empty());
+            when(eventRepository.reserveSeat(eventId)).thenReturn(1);
+            when(waitlistRepository.claim(1L)).thenReturn(0);
+            when(waitlistRepository.claim(2L)).thenReturn(1);
+            when(eventRepository.addParticipant(eventId, waiting.getId())).thenReturn(1);
+
+            eventService.unregisterParticipant(eventId, user.getId(), pin);
+
+            verify(eventRepository, never()).addParticipant(eventId, claimed.getId());
+            verify(eventRepository).addParticipant(eventId, waiting.getId());
+            verify(eventRepository, times(2)).releaseSeat(eventId);
+        }
+
+        @Test
+        @DisplayName("Should only leave the waitlist when the user is waitlisted")
+        void shouldLeaveWaitlist() {
+            when(waitlistRepository.dequeue(eventId, user.getId())).thenReturn(1);
+
+            eventService.unregisterParticipant(eventId, user.getId(), pin);
+
+            verify(eventRepository, never()).releaseSeat(any());
+            verify(eventRepository, never()).removeParticipant(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw ImpossibleUnregisterException if user is not registered")
+        void shouldThrowWhenNotRegistered() {
+            when(waitlistRepository.dequeue(eventId, user.getId())).thenReturn(0);
+            when(eventRepository.isParticipant(eventId, user.getId())).thenReturn(false);
+
+            assertThrows(ImpossibleUnregisterException.class,
+                    () -> eventService.unregisterParticipant(eventId, user.getId(), pin));
+            verify(eventRepository, never()).removeParticipant(any(), any());
         }
     }
 
     @Nested
-    class findAllParticipants {
+    class registerParticipants {
+
+        private UUID registered;
+        private UUID waitlisted;
+        private UUID missing;
+
+        @BeforeEach
+        void setUp() {
+            registered = UUID.randomUUID();
+            waitlisted = UUID.randomUUID();
+            missing = UUID.randomUUID();
+            when(eventRepository.findByIdForUpdate(eventId)).thenReturn(Optional.of(event));
+        }
 
         @Test
-        @DisplayName("Should return all participants")
-        void shouldReturnAllParticipants() {
-            User participant = new User();
-            participant.setId(UUID.randomUUID());
-            Set<User> participants = new HashSet<>(List.of(participant));
-            event.setParticipants(participants);
-            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        @DisplayName("Should fill free seats in order and waitlist the remaining users")
+        void shouldRegisterAndWaitlist() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID third = UUID.randomUUID();
+            event.setCapacity(3);
+            event.setParticipantsCount(2);
+            List<UUID> userIds = List.of(first, registered, second, first, missing, third);
+            List<UUID> candidates = List.of(first, registered, second, missing, third);
+            when(userService.findExistingIds(candidates)).thenReturn(List.of(first, registered, second, third));
+            when(eventRepository.findParticipantIdsIn(eventId, candidates)).thenReturn(List.of(registered));
+            when(waitlistRepository.findUserIdsIn(eventId, candidates)).thenReturn(List.of());
+
+            List<BulkParticipantResultDTO> results = eventService.registerParticipants(eventId, userId, pin, userIds);
+
+            assertEquals(List.of(
+                    new BulkParticipantResultDTO(first, BulkParticipantStatus.REGISTERED),
+                    new BulkParticipantResultDTO(registered, BulkParticipantStatus.ALREADY_REGISTERED),
+                    new BulkParticipantResultDTO(second, BulkParticipantStatus.WAITLISTED),
+                    new BulkParticipantResultDTO(missing, BulkParticipantStatus.USER_NOT_FOUND),
+                    new BulkParticipantResultDTO(third, BulkParticipantStatus.WAITLISTED)), results);
+            verify(userService).validateCredentials(userId, pin);
+            verify(eventRepository).addParticipants(eventId, List.of(first));
+            verify(eventRepository).adjustParticipantsCount(eventId, 1);
+            verify(waitlistRepository).enqueueAll(eq(eventId), eq(List.of(second, third)), any());
+        }
+
+        @Test
+        @DisplayName("Should register everyone when the event has no capacity limit")
+        void shouldRegisterAllWithoutCapacity() {
+            List<UUID> userIds = List.of(registered, waitlisted);
+            when(userService.findExistingIds(userIds)).thenReturn(userIds);
+            when(eventRepository.findParticipantIdsIn(eventId, userIds)).thenReturn(List.of());
+            when(waitlistRepository.findUserIdsIn(eventId, userIds)).thenReturn(List.of());
+
+            eventService.registerParticipants(eventId, userId, pin, userIds);
+
+            verify(eventRepository).addParticipants(eventId, userIds);
+            verify(eventRepository).adjustParticipantsCount(eventId, 2);
+            verify(waitlistRepository, never()).enqueueAll(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw AccessDeniedException when the caller is not the owner")
+        void shouldThrowWhenNotOwner() {
+            UUID otherId = UUID.randomUUID();
+
+            assertThrows(AccessDeniedException.class,
+                    () -> eventService.registerParticipants(eventId, otherId, pin, List.of(registered)));
+            verify(eventRepository, never()).addParticipants(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw ForbiddenRegisterException once registrations are closed")
+        void shouldThrowWhenRegistrationsClosed() {
+            event.setDateTime(LocalDateTime.now().plusMinutes(10));
+
+            assertThrows(ForbiddenRegisterException.class,
+                    () -> eventService.registerParticipants(eventId, userId, pin, List.of(registered)));
+            verify(userService, never()).findExistingIds(any());
+        }
+    }
+
+    @Nested
+    class unregisterParticipants {
+
+        @BeforeEach
+        void setUp() {
+            when(eventRepository.findByIdForUpdate(eventId)).thenReturn(Optional.of(event));
+        }
+
+        @Test
+        @DisplayName("Should remove participants and waitlisted users and promote the waitlist")
+        void shouldRemoveAndPromote() {
+            UUID participant = UUID.randomUUID();
+            UUID waiting = UUID.randomUUID();
+            UUID stranger = UUID.randomUUID();
+            User promoted = new User();
+            promoted.setId(UUID.randomUUID());
+            WaitlistEntry entry = waitlistEntry(7L, promoted);
+            event.setCapacity(2);
+            event.setParticipantsCount(2);
+            List<UUID> userIds = List.of(participant, waiting, stranger);
+            when(eventRepository.findParticipantIdsIn(eventId, userIds)).thenReturn(List.of(participant));
+            when(waitlistRepository.findUserIdsIn(eventId, userIds)).thenReturn(List.of(waiting));
+            when(waitlistRepository.findByEventIdOrderByCreatedAtAscIdAsc(eventId, Limit.of(1)))
+                    .thenReturn(List.of(entry));
+
+            List<BulkParticipantResultDTO> results =
+                    eventService.unregisterParticipants(eventId, userId, pin, userIds);
+
+            assertEquals(List.of(
+                    new BulkParticipantResultDTO(participant, BulkParticipantStatus.REMOVED),
+                    new BulkParticipantResultDTO(waiting, BulkParticipantStatus.REMOVED),
+                    new BulkParticipantResultDTO(stranger, BulkParticipantStatus.NOT_REGISTERED)), results);
+            verify(waitlistRepository).dequeueAll(eventId, List.of(waiting));
+            verify(eventRepository).removeParticipants(eventId, List.of(participant));
+            verify(eventRepository).adjustParticipantsCount(eventId, -1);
+            verify(waitlistRepository).deleteAllByIdInBatch(List.of(7L));
+            verify(eventRepository).addParticipants(eventId, List.of(promoted.getId()));
+            verify(eventRepository).adjustParticipantsCount(eventId, 1);
+        }
+
+        @Test
+        @DisplayName("Should throw ImpossibleUnregisterException close to the event start")
+        void shouldThrowWhenTooLate() {
+            event.setDateTime(LocalDateTime.now().plusMinutes(5));
+
+            assertThrows(ImpossibleUnregisterException.class,
+                    () -> eventService.unregisterParticipants(eventId, userId, pin, List.of(UUID.randomUUID())));
+            verify(eventRepository, never()).removeParticipants(any(), any());
+        }
+    }
+
+    @Nested
+    class findParticipantPage {
+
+        private ParticipantDTO ana;
+        private ParticipantDTO bruno;
+
+        @BeforeEach
+        void setUp() {
+            ana = new ParticipantDTO(UUID.randomUUID(), "Ana", "ana@gmail.com", LocalDateTime.now().minusDays(2));
+            bruno = new ParticipantDTO(UUID.randomUUID(), "Bruno", "bruno@gmail.com", LocalDateTime.now().minusDays(1));
+        }
+
+        @Test
+        @DisplayName("Should return the first page ordered by name with a next cursor")
+        void shouldReturnFirstPageByName() {
+            when(eventRepository.existsById(eventId)).thenReturn(true);
+            when(eventRepository.findParticipantsOrderByName(eventId, Limit.of(2))).thenReturn(List.of(ana, bruno));
+
+            CursorPageDTO<ParticipantDTO> page = eventService.findParticipantPage(eventId, ParticipantSort.NAME,
+                    null, 1);
+
+            assertEquals(List.of(ana), page.content());
+            assertEquals(CursorCodec.encode(ana.name(), ana.id()), page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should seek past the name cursor")
+        void shouldSeekPastNameCursor() {
+            when(eventRepository.existsById(eventId)).thenReturn(true);
+            when(eventRepository.findParticipantsOrderByNameAfter(eventId, ana.name(), ana.id(), Limit.of(2)))
+                    .thenReturn(List.of(bruno));
+
+            CursorPageDTO<ParticipantDTO> page = eventService.findParticipantPage(eventId, ParticipantSort.NAME,
+                    CursorCodec.encode(ana.name(), ana.id()), 1);
+
+            assertEquals(List.of(bruno), page.content());
+            assertNull(page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should seek past the registration time cursor")
+        void shouldSeekPastRegistrationCursor() {
+            when(eventRepository.existsById(eventId)).thenReturn(true);
+            when(eventRepository.findParticipantsOrderByRegisteredAtAfter(eventId, ana.registeredAt(), ana.id(),
+                    Limit.of(11))).thenReturn(List.of(bruno));
+
+            CursorPageDTO<ParticipantDTO> page = eventService.findParticipantPage(eventId,
+                    ParticipantSort.REGISTERED_AT, CursorCodec.encode(ana.registeredAt(), ana.id()), 10);
+
+            assertEquals(List.of(bruno), page.content());
+        }
+
+        @Test
+        @DisplayName("Should throw ObjectNotFoundException if event not found")
+        void shouldThrowWhenEventNotFound() {
+            when(eventRepository.existsById(eventId)).thenReturn(false);
+
+            assertThrows(ObjectNotFoundException.class,
+                    () -> eventService.findParticipantPage(eventId, ParticipantSort.NAME, null, 10));
+            verify(eventRepository, never()).findParticipantsOrderByName(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidInputException for an out-of-range limit")
+        void shouldRejectInvalidLimit() {
+            assertThrows(InvalidInputException.class,
+                    () -> eventService.findParticipantPage(eventId, ParticipantSort.NAME, null, 101));
+        }
+    }
+
+    @Nested
+    class streamParticipants {
+
+        @Test
+        @DisplayName("Should hand every streamed participant to the consumer in order")
+        void shouldStreamParticipants() {
+            ParticipantDTO first = new ParticipantDTO(UUID.randomUUID(), "Ana", "ana@gmail.com", LocalDateTime.now());
+            ParticipantDTO second = new ParticipantDTO(UUID.randomUUID(), "Bia", "bia@gmail.com", LocalDateTime.now());
+            when(eventRepository.streamParticipantsOrderByRegisteredAt(eventId)).thenReturn(Stream.of(first, second));
+            List<ParticipantDTO> received = new ArrayList<>();
 
-            Set<User> output = eventService.findAllParticipants(eventId);
+            eventService.streamParticipants(eventId, ParticipantSort.REGISTERED_AT, received::add);
 
-            assertEquals(1, output.size());
-            assertTrue(output.contains(participant));
+            assertEquals(List.of(first, second), received);
         }
     }
 }
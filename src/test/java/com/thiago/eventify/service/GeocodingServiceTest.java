@@ -0,0 +1,123 @@
+package com.thiago.eventify.service;
+
+import com.thiago.eventify.client.dto.AwesomeApiResponseDTO;
+import com.thiago.eventify.client.service.AwesomeApiClient;
+import com.thiago.eventify.entity.CepAddress;
+import com.thiago.eventify.repository.CepAddressRepository;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GeocodingServiceTest {
+
+    @Mock
+    private AwesomeApiClient awesomeApiClient;
+
+    @Mock
+    private CepAddressRepository cepAddressRepository;
+
+    private MeterRegistry meterRegistry;
+    private List<Runnable> backgroundTasks;
+    private GeocodingService geocodingService;
+
+    @BeforeEach
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+        backgroundTasks = new ArrayList<>();
+        geocodingService = new GeocodingService(awesomeApiClient, cepAddressRepository, meterRegistry,
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), backgroundTasks::add, 10,
+                Duration.ofDays(30));
+    }
+
+    @Nested
+    class findAddress {
+
+        @Test
+        @DisplayName("Should fetch from the API and persist when CEP is unknown")
+        void shouldFetchFromApiWhenCepIsUnknown(){
+            AwesomeApiResponseDTO response = new AwesomeApiResponseDTO("Address", "District", "SP",
+                    "City", 200, -23.5, -46.6);
+            when(cepAddressRepository.findById("12345678")).thenReturn(Optional.empty());
+            when(awesomeApiClient.addressInfo("12345678")).thenReturn(response);
+
+            AwesomeApiResponseDTO output = geocodingService.findAddress("12345-678");
+
+            assertEquals(response, output);
+            verify(cepAddressRepository).insertIfAbsent(eq("12345678"), eq("Address"), eq("District"), eq("SP"),
+                    eq("City"), eq(-23.5), eq(-46.6), any());
+            assertEquals(1.0, meterRegistry.get("eventify.cep.database.lookups").tag("result", "miss")
+                    .counter().count());
+        }
+
+        @Test
+        @DisplayName("Should resolve from the database without calling the API")
+        void shouldResolveFromDatabase(){
+            CepAddress stored = new CepAddress("12345678", "Address", "District", "SP", "City",
+                    -23.5, -46.6, LocalDateTime.now());
+            when(cepAddressRepository.findById("12345678")).thenReturn(Optional.of(stored));
+
+            AwesomeApiResponseDTO output = geocodingService.findAddress("12345-678");
+
+            assertEquals("Address", output.address());
+            assertEquals(-23.5, output.lat());
+            assertEquals(-46.6, output.lng());
+            verifyNoInteractions(awesomeApiClient);
+            assertEquals(1.0, meterRegistry.get("eventify.cep.database.lookups").tag("result", "hit")
+                    .counter().count());
+        }
+
+        @Test
+        @DisplayName("Should serve an outdated database entry and refresh it in the background")
+        void shouldRefreshOutdatedEntry(){
+            CepAddress stored = new CepAddress("12345678", "Old Address", "District", "SP", "City",
+                    -23.5, -46.6, LocalDateTime.now().minusDays(31));
+            when(cepAddressRepository.findById("12345678")).thenReturn(Optional.of(stored));
+            when(awesomeApiClient.addressInfo("12345678")).thenReturn(new AwesomeApiResponseDTO("New Address",
+                    "District", "SP", "City", 200, -23.5, -46.6));
+
+            AwesomeApiResponseDTO output = geocodingService.findAddress("12345-678");
+
+            assertEquals("Old Address", output.address());
+            backgroundTasks.forEach(Runnable::run);
+            verify(cepAddressRepository).refresh(eq("12345678"), eq("New Address"), eq("District"), eq("SP"),
+                    eq("City"), eq(-23.5), eq(-46.6), any());
+            assertEquals("New Address", geocodingService.findAddress("12345-678").address());
+        }
+
+        @Test
+        @DisplayName("Should serve repeated CEPs from memory")
+        void shouldServeRepeatedCepsFromMemory(){
+            AwesomeApiResponseDTO response = new AwesomeApiResponseDTO("Address", "District", "SP",
+                    "City", 200, -23.5, -46.6);
+            when(cepAddressRepository.findById("12345678")).thenReturn(Optional.empty());
+            when(awesomeApiClient.addressInfo("12345678")).thenReturn(response);
+
+            geocodingService.findAddress("12345-678");
+            AwesomeApiResponseDTO output = geocodingService.findAddress("12345678");
+
+            assertEquals(response, output);
+            verify(cepAddressRepository, times(1)).findById("12345678");
+            verify(awesomeApiClient, times(1)).addressInfo("12345678");
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.thiago.eventify.service;
 
+import com.thiago.eventify.datasource.ReadYourWrites;
 import com.thiago.eventify.dto.CreateUserDTO;
+import com.thiago.eventify.dto.EventDTO;
 import com.thiago.eventify.dto.UpdateUserDTO;
-import com.thiago.eventify.entity.Event;
 import com.thiago.eventify.entity.User;
 import com.thiago.eventify.exception.type.InvalidInputException;
 import com.thiago.eventify.mapper.UserMapper;
 import com.thiago.eventify.repository.UserRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.hibernate.ObjectNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,10 +35,14 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
-    @InjectMocks
-    @Spy
     private UserService userService;
 
+    @BeforeEach
+    void setUp(){
+        userService = spy(new UserService(userRepository, userMapper, new ReadYourWrites(Duration.ZERO),
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(1)));
+    }
+
     @Nested
     class create {
 
@@ -112,6 +121,69 @@ class UserServiceTest {
         }
     }
 
+    @Nested
+    class validateCredentials {
+
+        @Test
+        @DisplayName("Should accept a valid PIN loading only the PIN column")
+        void shouldAcceptValidPin(){
+            UUID id = UUID.randomUUID();
+            when(userRepository.findPinById(id)).thenReturn(Optional.of("1234"));
+
+            assertDoesNotThrow(() -> userService.validateCredentials(id, "1234"));
+            verify(userRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should reuse verified credentials without querying the database again")
+        void shouldReuseVerifiedCredentials(){
+            UUID id = UUID.randomUUID();
+            when(userRepository.findPinById(id)).thenReturn(Optional.of("1234"));
+
+            userService.validateCredentials(id, "1234");
+            userService.validateCredentials(id, "1234");
+
+            verify(userRepository, times(1)).findPinById(id);
+        }
+
+        @Test
+        @DisplayName("Should check the database again when the PIN differs from the cached one")
+        void shouldRejectWrongPinAfterCaching(){
+            UUID id = UUID.randomUUID();
+            when(userRepository.findPinById(id)).thenReturn(Optional.of("1234"));
+            userService.validateCredentials(id, "1234");
+
+            assertThrows(InvalidInputException.class, () -> userService.validateCredentials(id, "4321"));
+            verify(userRepository, times(2)).findPinById(id);
+        }
+
+        @Test
+        @DisplayName("Should throw ObjectNotFoundException when user does not exist")
+        void shouldThrowExceptionWhenUserNotFound(){
+            UUID id = UUID.randomUUID();
+            when(userRepository.findPinById(id)).thenReturn(Optional.empty());
+
+            assertThrows(ObjectNotFoundException.class, () -> userService.validateCredentials(id, "1234"));
+        }
+
+        @Test
+        @DisplayName("Should forget verified credentials when the user is updated")
+        void shouldInvalidateCredentialsOnUpdate(){
+            UUID id = UUID.randomUUID();
+            UpdateUserDTO data = new UpdateUserDTO("Mike", "mike@gmail.com", "4321");
+            User user = new User(id, "John", "12345678900", "john@gmail.com", "1234");
+            when(userRepository.findPinById(id)).thenReturn(Optional.of("1234"), Optional.of("4321"));
+            userService.validateCredentials(id, "1234");
+            doReturn(user).when(userService).findByIdAndValidate(id, "1234");
+            when(userRepository.save(user)).thenReturn(user);
+
+            userService.update(id, "1234", data);
+
+            assertThrows(InvalidInputException.class, () -> userService.validateCredentials(id, "1234"));
+            verify(userRepository, times(2)).findPinById(id);
+        }
+    }
+
     @Nested
     class update {
 
@@ -192,37 +264,43 @@ class UserServiceTest {
     class findAllEvents {
 
         @Test
-        @DisplayName("Should return a set of Event with success")
-        void shouldReturnSetOfEventWithSuccess(){
+        @DisplayName("Should return the projected events of the user")
+        void shouldReturnEventsWithSuccess(){
             UUID id = UUID.randomUUID();
             String pin = "1234";
-            User user = new User(id, "John", "12345678900", "john@gmail.com", "1234");
-            Event event1 = new Event();
-            Set<Event> events = new HashSet<>(List.of(event1));
-            user.setParticipatingEvents(events);
-            doReturn(user).when(userService).findByIdAndValidate(any(), any());
+            EventDTO event = new EventDTO(UUID.randomUUID(), "Title", "Description", LocalDateTime.now(),
+                    "12345-678", "Address", "100", "City", "State", "District", null, 0);
+            doNothing().when(userService).validateCredentials(id, pin);
+            when(userRepository.findEventDTOsByParticipantId(id)).thenReturn(List.of(event));
 
-            Set<Event> output = userService.findAllEvents(id, pin);
+            List<EventDTO> output = userService.findAllEvents(id, pin);
 
-            assertNotNull(output);
-            assertEquals(1, output.size());
-            assertTrue(output.contains(event1));
+            assertEquals(List.of(event), output);
         }
 
         @Test
-        @DisplayName("Should return an empty set")
-        void shouldReturnEmptySet(){
+        @DisplayName("Should return an empty list")
+        void shouldReturnEmptyList(){
             UUID id = UUID.randomUUID();
             String pin = "1234";
-            User user = new User(id, "John", "12345678900", "john@gmail.com", "1234");
-            Set<Event> events = new HashSet<>();
-            user.setParticipatingEvents(events);
-            doReturn(user).when(userService).findByIdAndValidate(any(), any());
+            doNothing().when(userService).validateCredentials(id, pin);
+            when(userRepository.findEventDTOsByParticipantId(id)).thenReturn(List.of());
 
-            Set<Event> output = userService.findAllEvents(id, pin);
+            List<EventDTO> output = userService.findAllEvents(id, pin);
 
             assertNotNull(output);
             assertEquals(0, output.size());
         }
+
+        @Test
+        @DisplayName("Should not query events when the PIN is invalid")
+        void shouldNotQueryEventsWhenPinIsInvalid(){
+            UUID id = UUID.randomUUID();
+            doThrow(new InvalidInputException("O PIN informado é inválido.")).when(userService)
+                    .validateCredentials(id, "0000");
+
+            assertThrows(InvalidInputException.class, () -> userService.findAllEvents(id, "0000"));
+            verify(userRepository, never()).findEventDTOsByParticipantId(any());
+        }
     }
 }
@@ -0,0 +1,351 @@
+package com.thiago.eventify.service;
+
+import com.thiago.eventify.client.dto.WeatherForecastApiResponseDTO;
+import com.thiago.eventify.client.service.WeatherForecastApiClient;
+import com.thiago.eventify.config.WeatherForecastProperties;
+import com.thiago.eventify.dto.CoordinatesDTO;
+import com.thiago.eventify.dto.WeatherForecastSnapshotDTO;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherForecastServiceTest {
+
+    @Mock
+    private WeatherForecastApiClient weatherForecastApiClient;
+
+    private MutableClock clock;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private WeatherForecastService weatherForecastService;
+
+    @BeforeEach
+    void setUp(){
+        clock = new MutableClock(Instant.parse("2025-05-20T10:15:00Z"));
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        WeatherForecastProperties properties = new WeatherForecastProperties(0.05, Duration.ofHours(1),
+                Duration.ZERO, Duration.ofDays(1), 100, 2, 2, 0.25);
+        weatherForecastService = new WeatherForecastService(weatherForecastApiClient, properties,
+                new SimpleMeterRegistry(), circuitBreakerRegistry, BulkheadRegistry.ofDefaults(), Runnable::run,
+                Duration.ofSeconds(5), clock);
+    }
+
+    @Nested
+    class findForecast {
+
+        @Test
+        @DisplayName("Should share one upstream call between coordinates in the same grid cell")
+        void shouldShareUpstreamCallWithinGridCell(){
+            WeatherForecastApiResponseDTO forecast = new WeatherForecastApiResponseDTO(null);
+            when(weatherForecastApiClient.weatherInfo(-23.525, -46.625)).thenReturn(forecast);
+
+            WeatherForecastSnapshotDTO first = weatherForecastService.findForecast(-23.51, -46.63);
+            WeatherForecastSnapshotDTO second = weatherForecastService.findForecast(-23.52, -46.64);
+
+            assertSame(forecast, first.forecast());
+            assertSame(forecast, second.forecast());
+            assertFalse(first.stale());
+            verify(weatherForecastApiClient, times(1)).weatherInfo(anyDouble(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Should call upstream once per distinct grid cell")
+        void shouldCallUpstreamPerGridCell(){
+            when(weatherForecastApiClient.weatherInfo(anyDouble(), anyDouble()))
+                    .thenReturn(new WeatherForecastApiResponseDTO(null));
+
+            weatherForecastService.findForecast(-23.51, -46.63);
+            weatherForecastService.findForecast(-22.90, -43.20);
+
+            verify(weatherForecastApiClient, times(2)).weatherInfo(anyDouble(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Should collapse concurrent misses for the same cell into a single upstream call")
+        void shouldCollapseConcurrentMisses() throws Exception {
+            CountDownLatch upstreamCalled = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            WeatherForecastApiResponseDTO forecast = new WeatherForecastApiResponseDTO(null);
+            when(weatherForecastApiClient.weatherInfo(anyDouble(), anyDouble())).thenAnswer(invocation -> {
+                upstreamCalled.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return forecast;
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<WeatherForecastSnapshotDTO>> results = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    results.add(executor.submit(() -> weatherForecastService.findForecast(-23.51, -46.63)));
+                }
+                assertTrue(upstreamCalled.await(5, TimeUnit.SECONDS));
+                release.countDown();
+
+                for (Future<WeatherForecastSnapshotDTO> result : results) {
+                    assertSame(forecast, result.get(5, TimeUnit.SECONDS).forecast());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            verify(weatherForecastApiClient, times(1)).weatherInfo(anyDouble(), anyDouble());
+        }
+    }
+
+    @Nested
+    class findCachedForecast {
+
+        @Test
+        @DisplayName("Should not call upstream when the grid cell is not cached")
+        void shouldReturnEmptyWithoutCallingUpstream(){
+            assertTrue(weatherForecastService.findCachedForecast(-23.51, -46.63).isEmpty());
+            verifyNoInteractions(weatherForecastApiClient);
+        }
+
+        @Test
+        @DisplayName("Should return the cached forecast with its fetch time")
+        void shouldReturnCachedForecast(){
+            WeatherForecastApiResponseDTO forecast = new WeatherForecastApiResponseDTO(null);
+            when(weatherForecastApiClient.weatherInfo(-23.525, -46.625)).thenReturn(forecast);
+            weatherForecastService.findForecast(-23.51, -46.63);
+
+            WeatherForecastSnapshotDTO cached = weatherForecastService.findCachedForecast(-23.52, -46.64).orElseThrow();
+
+            assertSame(forecast, cached.forecast());
+            assertEquals(clock.instant(), cached.fetchedAt());
+            verify(weatherForecastApiClient, times(1)).weatherInfo(anyDouble(), anyDouble());
+        }
+    }
+
+    @Nested
+    class staleWhileRevalidate {
+
+        @Test
+        @DisplayName("Should serve the stale forecast and refresh it in the background")
+        void shouldServeStaleAndRefresh(){
+            WeatherForecastApiResponseDTO stale = new WeatherForecastApiResponseDTO(null);
+            WeatherForecastApiResponseDTO fresh = new WeatherForecastApiResponseDTO(null);
+            when(weatherForecastApiClient.weatherInfo(-23.525, -46.625)).thenReturn(stale, fresh);
+            weatherForecastService.findForecast(-23.51, -46.63);
+            clock.advance(Duration.ofHours(1));
+
+            WeatherForecastSnapshotDTO output = weatherForecastService.findForecast(-23.51, -46.63);
+
+            assertSame(stale, output.forecast());
+            assertTrue(output.stale());
+            WeatherForecastSnapshotDTO refreshed = weatherForecastService.findForecast(-23.51, -46.63);
+            assertSame(fresh, refreshed.forecast());
+            assertFalse(refreshed.stale());
+        }
+
+        @Test
+        @DisplayName("Should keep serving the stale forecast when the refresh fails")
+        void shouldKeepStaleWhenRefreshFails(){
+            WeatherForecastApiResponseDTO stale = new WeatherForecastApiResponseDTO(null);
+            when(weatherForecastApiClient.weatherInfo(-23.525, -46.625)).thenReturn(stale)
+                    .thenThrow(new RuntimeException("upstream down"));
+            weatherForecastService.findForecast(-23.51, -46.63);
+            clock.advance(Duration.ofHours(1));
+
+            weatherForecastService.findForecast(-23.51, -46.63);
+            WeatherForecastSnapshotDTO output = weatherForecastService.findForecast(-23.51, -46.63);
+
+            assertSame(stale, output.forecast());
+            assertTrue(output.stale());
+        }
+
+        @Test
+        @DisplayName("Should fail fast without calling upstream when the circuit is open")
+        void shouldFailFastWhenCircuitIsOpen(){
+            circuitBreakerRegistry.circuitBreaker("weatherApi").transitionToOpenState();
+
+            assertThrows(CallNotPermittedException.class, () -> weatherForecastService.findForecast(-23.51, -46.63));
+            verifyNoInteractions(weatherForecastApiClient);
+        }
+    }
+
+    @Nested
+    class findForecasts {
+
+        @Test
+        @DisplayName("Should fetch missing cells in batches and keep the input order")
+        void shouldFetchMissingCellsInBatches(){
+            WeatherForecastApiResponseDTO saoPaulo = new WeatherForecastApiResponseDTO(-23.5, -46.625, null);
+            WeatherForecastApiResponseDTO rio = new WeatherForecastApiResponseDTO(-22.875, -43.2, null);
+            WeatherForecastApiResponseDTO curitiba = new WeatherForecastApiResponseDTO(null);
+            when(weatherForecastApiClient.weatherInfoBatch("-23.525,-22.875", "-46.625,-43.175"))
+                    .thenReturn(List.of(rio, saoPaulo));
+            when(weatherForecastApiClient.weatherInfo(-25.425, -49.275)).thenReturn(curitiba);
+
+            List<WeatherForecastSnapshotDTO> output = weatherForecastService.findForecasts(List.of(
+                    new CoordinatesDTO(-23.51, -46.63),
+                    new CoordinatesDTO(-22.90, -43.20),
+                    new CoordinatesDTO(-23.52, -46.64),
+                    new CoordinatesDTO(-25.43, -49.27)));
+
+            assertEquals(List.of(saoPaulo, rio, saoPaulo, curitiba),
+                    output.stream().map(WeatherForecastSnapshotDTO::forecast).toList());
+            verify(weatherForecastApiClient, times(1)).weatherInfoBatch(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should load cells individually when the batch response does not cover every cell")
+        void shouldFallBackWhenBatchResponseIsIncomplete(){
+            WeatherForecastApiResponseDTO saoPaulo = new WeatherForecastApiResponseDTO(-23.525, -46.625, null);
+            WeatherForecastApiResponseDTO rio = new WeatherForecastApiResponseDTO(-22.875, -43.175, null);
+            when(weatherForecastApiClient.weatherInfoBatch("-23.525,-22.875", "-46.625,-43.175"))
+                    .thenReturn(List.of(saoPaulo));
+            when(weatherForecastApiClient.weatherInfo(-23.525, -46.625)).thenReturn(saoPaulo);
+            when(weatherForecastApiClient.weatherInfo(-22.875, -43.175)).thenReturn(rio);
+
+            List<WeatherForecastSnapshotDTO> output = weatherForecastService.findForecasts(List.of(
+                    new CoordinatesDTO(-23.51, -46.63), new CoordinatesDTO(-22.90, -43.20)));
+
+            assertEquals(List.of(saoPaulo, rio), output.stream().map(WeatherForecastSnapshotDTO::forecast).toList());
+        }
+
+        @Test
+        @DisplayName("Should load a cell individually when no batch entry is near its coordinates")
+        void shouldFallBackForUnmatchedCell(){
+            WeatherForecastApiResponseDTO saoPaulo = new WeatherForecastApiResponseDTO(-23.525, -46.625, null);
+            WeatherForecastApiResponseDTO elsewhere = new WeatherForecastApiResponseDTO(-10.0, -40.0, null);
+            WeatherForecastApiResponseDTO rio = new WeatherForecastApiResponseDTO(-22.875, -43.175, null);
+            when(weatherForecastApiClient.weatherInfoBatch("-23.525,-22.875", "-46.625,-43.175"))
+                    .thenReturn(List.of(saoPaulo, elsewhere));
+            when(weatherForecastApiClient.weatherInfo(-22.875, -43.175)).thenReturn(rio);
+
+            List<WeatherForecastSnapshotDTO> output = weatherForecastService.findForecasts(List.of(
+                    new CoordinatesDTO(-23.51, -46.63), new CoordinatesDTO(-22.90, -43.20)));
+
+            assertEquals(List.of(saoPaulo, rio), output.stream().map(WeatherForecastSnapshotDTO::forecast).toList());
+            verify(weatherForecastApiClient, never()).weatherInfo(-23.525, -46.625);
+        }
+
+        @Test
+        @DisplayName("Should not call upstream when every cell is cached")
+        void shouldServeCachedCells(){
+            WeatherForecastApiResponseDTO forecast = new WeatherForecastApiResponseDTO(null);
+            when(weatherForecastApiClient.weatherInfo(-23.525, -46.625)).thenReturn(forecast);
+            weatherForecastService.findForecast(-23.51, -46.63);
+
+            List<WeatherForecastSnapshotDTO> output = weatherForecastService.findForecasts(List.of(
+                    new CoordinatesDTO(-23.51, -46.63), new CoordinatesDTO(-23.52, -46.64)));
+
+            assertEquals(List.of(forecast, forecast),
+                    output.stream().map(WeatherForecastSnapshotDTO::forecast).toList());
+            verify(weatherForecastApiClient, never()).weatherInfoBatch(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    class refreshForecasts {
+
+        @Test
+        @DisplayName("Should replace cached forecasts with fresh upstream data")
+        void shouldReplaceCachedForecasts(){
+            WeatherForecastApiResponseDTO stale = new WeatherForecastApiResponseDTO(null);
+            WeatherForecastApiResponseDTO fresh = new WeatherForecastApiResponseDTO(null);
+            when(weatherForecastApiClient.weatherInfo(-23.525, -46.625)).thenReturn(stale, fresh);
+            weatherForecastService.findForecast(-23.51, -46.63);
+
+            int refreshed = weatherForecastService.refreshForecasts(List.of(new CoordinatesDTO(-23.51, -46.63),
+                    new CoordinatesDTO(-23.52, -46.64)), 100);
+
+            assertEquals(1, refreshed);
+            assertSame(fresh, weatherForecastService.findForecast(-23.51, -46.63).forecast());
+        }
+
+        @Test
+        @DisplayName("Should keep refreshing remaining batches when one batch fails")
+        void shouldContinueWhenBatchFails(){
+            when(weatherForecastApiClient.weatherInfoBatch(anyString(), anyString()))
+                    .thenThrow(new RuntimeException("upstream down"));
+            when(weatherForecastApiClient.weatherInfo(-25.425, -49.275))
+                    .thenReturn(new WeatherForecastApiResponseDTO(null));
+
+            int refreshed = weatherForecastService.refreshForecasts(List.of(new CoordinatesDTO(-23.51, -46.63),
+                    new CoordinatesDTO(-22.90, -43.20), new CoordinatesDTO(-25.43, -49.27)), 100);
+
+            assertEquals(1, refreshed);
+        }
+
+        @Test
+        @DisplayName("Should pace the per-cell fallback calls of an incomplete batch")
+        void shouldPaceFallbackCalls(){
+            when(weatherForecastApiClient.weatherInfoBatch(anyString(), anyString()))
+                    .thenReturn(List.of(new WeatherForecastApiResponseDTO(null)));
+            when(weatherForecastApiClient.weatherInfo(anyDouble(), anyDouble()))
+                    .thenReturn(new WeatherForecastApiResponseDTO(null));
+
+            long start = System.nanoTime();
+            int refreshed = weatherForecastService.refreshForecasts(List.of(new CoordinatesDTO(-23.51, -46.63),
+                    new CoordinatesDTO(-22.90, -43.20)), 10);
+
+            assertEquals(2, refreshed);
+            verify(weatherForecastApiClient, times(2)).weatherInfo(anyDouble(), anyDouble());
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(190));
+        }
+
+        @Test
+        @DisplayName("Should reject a non-positive call rate")
+        void shouldRejectNonPositiveRate(){
+            List<CoordinatesDTO> coordinates = List.of(new CoordinatesDTO(-23.51, -46.63));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> weatherForecastService.refreshForecasts(coordinates, 0));
+            verifyNoInteractions(weatherForecastApiClient);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant){
+            this.instant = instant;
+        }
+
+        void advance(Duration duration){
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone(){
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone){
+            return this;
+        }
+
+        @Override
+        public Instant instant(){
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.thiago.eventify.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    @Test
+    @DisplayName("Should produce the same quoted tag for the same parts")
+    void shouldBeDeterministic(){
+        UUID id = UUID.randomUUID();
+
+        String etag = ETags.strong(List.of(id, 3L, 10));
+
+        assertEquals(etag, ETags.strong(List.of(id, 3L, 10)));
+        assertTrue(etag.matches("\"[0-9a-f]{32}\""));
+    }
+
+    @Test
+    @DisplayName("Should change the tag when any part changes or parts are regrouped")
+    void shouldDependOnEveryPart(){
+        UUID id = UUID.randomUUID();
+        String etag = ETags.strong(List.of(id, 3L, 10));
+
+        assertNotEquals(etag, ETags.strong(List.of(id, 4L, 10)));
+        assertNotEquals(ETags.strong(List.of("ab", "c")), ETags.strong(List.of("a", "bc")));
+        assertNotEquals(ETags.strong(Arrays.asList("a", null)), ETags.strong(List.of("a")));
+    }
+
+    @Test
+    @DisplayName("Should match If-None-Match lists, weak validators and the wildcard")
+    void shouldMatchIfNoneMatch(){
+        String etag = ETags.strong(List.of("event"));
+
+        assertTrue(ETags.matches(etag, etag));
+        assertTrue(ETags.matches("\"other\", W/" + etag, etag));
+        assertTrue(ETags.matches("*", etag));
+        assertFalse(ETags.matches("\"other\"", etag));
+        assertFalse(ETags.matches(null, etag));
+    }
+}
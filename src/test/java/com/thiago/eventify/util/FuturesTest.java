@@ -0,0 +1,77 @@
+package com.thiago.eventify.util;
+
+import com.thiago.eventify.exception.type.UpstreamTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FuturesTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp(){
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown(){
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should return the supplied value within the deadline")
+    void shouldReturnValue(){
+        CompletableFuture<String> future = Futures.supplyWithDeadline(() -> "ok", executor, Duration.ofSeconds(1));
+
+        assertEquals("ok", Futures.await(future));
+    }
+
+    @Test
+    @DisplayName("Should fail with UpstreamTimeoutException and interrupt the task once the deadline passes")
+    void shouldInterruptOnTimeout() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> future = Futures.supplyWithDeadline(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return "late";
+        }, executor, Duration.ofMillis(50));
+
+        assertThrows(UpstreamTimeoutException.class, () -> Futures.await(future));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should interrupt the task when the caller cancels the future")
+    void shouldInterruptOnCancel() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> future = Futures.supplyWithDeadline(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return "late";
+        }, executor, Duration.ofSeconds(30));
+
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        future.cancel(true);
+
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+}
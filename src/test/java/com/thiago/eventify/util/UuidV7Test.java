@@ -0,0 +1,64 @@
+package com.thiago.eventify.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    private static UuidV7 generatorAt(long millis){
+        return new UuidV7(Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should set the version 7 and IETF variant bits")
+    void shouldSetVersionAndVariant(){
+        UUID uuid = UuidV7.randomUUID();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    @DisplayName("Should embed the creation time in milliseconds")
+    void shouldEmbedTimestamp(){
+        long millis = System.currentTimeMillis() + 3_600_000;
+
+        UUID uuid = generatorAt(millis).next();
+
+        assertEquals(millis, UuidV7.timestamp(uuid));
+    }
+
+    @Test
+    @DisplayName("Should keep ids created in the same millisecond in creation order")
+    void shouldBeMonotonic(){
+        UuidV7 generator = generatorAt(System.currentTimeMillis());
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next().toString());
+        }
+
+        List<String> sorted = new ArrayList<>(ids);
+        sorted.sort(null);
+        assertEquals(sorted, ids);
+        assertEquals(ids.size(), ids.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("Should keep the monotonic state per generator instead of sharing it")
+    void shouldIsolateGenerators(){
+        generatorAt(System.currentTimeMillis() + 3_600_000).next();
+
+        UUID uuid = UuidV7.randomUUID();
+
+        assertTrue(UuidV7.timestamp(uuid) < System.currentTimeMillis() + 60_000);
+    }
+}